@@ -2,8 +2,10 @@ package com.ssafy.home.controller;
 
 import com.ssafy.home.domain.HouseDeal;
 import com.ssafy.home.domain.User;
+import com.ssafy.home.dto.IngestionReport;
 import com.ssafy.home.dto.Response;
 import com.ssafy.home.service.DataUpdateService;
+import com.ssafy.home.service.DealIngestionService;
 import com.ssafy.home.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +28,7 @@ import java.util.List;
 public class AdminController {
     private final UserService userService;
     private final DataUpdateService dataUpdateService;
+    private final DealIngestionService dealIngestionService;
 
     // 회원 관리 API
     // ===============================
@@ -101,4 +104,33 @@ public class AdminController {
         List<HouseDeal> deals = dataUpdateService.getRecentDeals(limit);
         return ResponseEntity.ok(new Response<>(true, "최근 거래 조회", deals));
     }
+
+    @Operation(summary = "실거래가 적재", description = "국토교통부 실거래가 API 에서 한 달치 거래를 받아 새 거래만 적재 (시군구 생략 시 전체)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "적재 완료 (실패한 시군구는 failedRegions)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 거래연월 또는 시군구 코드")
+    })
+    @PostMapping("/deals/ingest")
+    public ResponseEntity<Response<IngestionReport>> ingestDeals(
+            @Parameter(description = "거래연월 (YYYYMM)", example = "202405")
+            @RequestParam String dealYmd,
+            @Parameter(description = "시군구 코드 목록 (생략 시 전체)", example = "11680,11650")
+            @RequestParam(required = false) List<String> lawdCd) {
+        try {
+            IngestionReport report = dealIngestionService.ingestMonth(dealYmd, lawdCd);
+            return ResponseEntity.ok(new Response<>(true, "실거래가 적재 완료", report));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new Response<>(false, e.getMessage(), null));
+        }
+    }
+
+    @Operation(summary = "아파트 인덱스 재생성", description = "houseinfos 변경 후 메모리 공간 인덱스를 다시 빌드")
+    @ApiResponse(responseCode = "200", description = "재생성 성공")
+    @PostMapping("/house-index/refresh")
+    public ResponseEntity<Response<Void>> refreshHouseIndexes() {
+        dataUpdateService.refreshHouseIndexes();
+        return ResponseEntity.ok(new Response<>(true, "아파트 인덱스 재생성", null));
+    }
 }
@@ -4,10 +4,17 @@ import com.ssafy.home.domain.DongCode;
 import com.ssafy.home.domain.HouseDeal;
 import com.ssafy.home.domain.HouseInfo;
 import com.ssafy.home.dto.ApartmentWithLatestDeal;
+import com.ssafy.home.dto.PolygonSearchRequest;
 import com.ssafy.home.dto.Response;
+import com.ssafy.home.service.ApartmentSpatialIndex;
 import com.ssafy.home.service.DataUpdateService;
+import com.ssafy.home.service.HeatmapService;
 import com.ssafy.home.service.HouseService;
 import com.ssafy.home.service.StatisticsService;
+import com.ssafy.home.service.VectorTileService;
+import com.ssafy.home.util.MvtEncoder;
+import com.ssafy.home.util.Polygon;
+import com.ssafy.home.util.TileMath;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +22,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,19 +42,26 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/house")
 public class HouseController {
+    private static final int MAX_POLYGON_VERTICES = 2000;
 
     private final HouseService houseService;
     private final StatisticsService statisticsService;
     private final DataUpdateService dataUpdateService;
+    private final VectorTileService vectorTileService;
+    private final HeatmapService heatmapService;
 
     // 기존에 구현한 API
     @GetMapping("/nearby")
     public ResponseEntity<?> getNearbyApartments(
             @RequestParam double lat,
             @RequestParam double lng,
-            @RequestParam(defaultValue = "1000") int radius) {
+            @RequestParam(defaultValue = "1000") int radius,
+            @RequestParam(required = false) Integer k) {
         try {
-            Map<String, Object> result = houseService.getNearbyApartments(lat, lng, radius);
+            if (k != null && k <= 0) {
+                return ResponseEntity.badRequest().body(Map.of("message", "k 는 1 이상이어야 합니다."));
+            }
+            Map<String, Object> result = houseService.getNearbyApartments(lat, lng, radius, k);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -59,6 +80,14 @@ public class HouseController {
         }
     }
 
+    // 거래 내역 스트리밍 API (NDJSON, 한 줄에 거래 1건)
+    @Operation(summary = "거래 내역 스트리밍", description = "거래 내역을 조회하는 대로 NDJSON 으로 한 행씩 전송합니다.")
+    @GetMapping(value = "/deals/{aptSeq}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamApartmentDeals(@PathVariable String aptSeq) {
+        StreamingResponseBody body = out -> houseService.streamApartmentDeals(aptSeq, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     // 지도 영역 내 아파트 정보 조회 API
     // 현재 위도 경도 외의 정보가 null로 반환됨..
     @GetMapping("/apartments-in-bounds")
@@ -76,6 +105,179 @@ public class HouseController {
         }
     }
 
+    // 지도 영역 내 아파트 스트리밍 API (NDJSON, 한 줄에 아파트 1건)
+    @Operation(summary = "영역 내 아파트 스트리밍", description = "넓은 영역의 아파트 + 최신 거래를 조회하는 대로 NDJSON 으로 한 행씩 전송합니다.")
+    @GetMapping(value = "/apartments-in-bounds/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamApartmentsInBounds(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng) {
+        StreamingResponseBody body = out -> houseService.streamApartmentsInBounds(swLat, swLng, neLat, neLng, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // 다각형(올가미) 영역 아파트 조회 API (NDJSON, 한 줄에 아파트 1건)
+    @Operation(summary = "다각형 영역 아파트 조회", description = "지도에 그린 다각형 안의 아파트 + 최신 거래를 NDJSON 으로 전송합니다. path 는 [[위도, 경도], ...] 입니다.")
+    @PostMapping(value = "/apartments-in-polygon", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> getApartmentsInPolygon(@RequestBody PolygonSearchRequest request) {
+        List<double[]> path = request.getPath();
+        if (path == null || path.size() < 3 || path.size() > MAX_POLYGON_VERTICES) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("message", "다각형 꼭짓점은 3~" + MAX_POLYGON_VERTICES + "개여야 합니다."));
+        }
+        double[] lngs = new double[path.size()];
+        double[] lats = new double[path.size()];
+        for (int i = 0; i < path.size(); i++) {
+            double[] point = path.get(i);
+            if (point == null || point.length != 2) {
+                return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                        .body(Map.of("message", "꼭짓점은 [위도, 경도] 형식이어야 합니다."));
+            }
+            lats[i] = point[0];
+            lngs[i] = point[1];
+        }
+        Polygon polygon;
+        try {
+            polygon = new Polygon(lngs, lats);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("message", e.getMessage()));
+        }
+        StreamingResponseBody body = out -> houseService.streamApartmentsInPolygon(polygon, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // 지도 이동 시 이전 영역 대비 들어오고 나간 아파트만 조회 API
+    @Operation(summary = "영역 변경분 아파트 조회",
+            description = "이전 영역(prev* 또는 이전 응답의 token) 대비 새로 들어온 아파트(added)와 빠진 아파트 aptSeq(removed)만 반환합니다.")
+    @GetMapping("/apartments-in-bounds/delta")
+    public ResponseEntity<?> getApartmentsDelta(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng,
+            @RequestParam(required = false) Double prevSwLat,
+            @RequestParam(required = false) Double prevSwLng,
+            @RequestParam(required = false) Double prevNeLat,
+            @RequestParam(required = false) Double prevNeLng,
+            @RequestParam(required = false) String token) {
+        try {
+            ApartmentSpatialIndex.Bounds current = new ApartmentSpatialIndex.Bounds(swLat, swLng, neLat, neLng);
+            ApartmentSpatialIndex.Bounds previous = null;
+            if (prevSwLat != null && prevSwLng != null && prevNeLat != null && prevNeLng != null) {
+                previous = new ApartmentSpatialIndex.Bounds(prevSwLat, prevSwLng, prevNeLat, prevNeLng);
+            }
+            return ResponseEntity.ok(houseService.getApartmentsDelta(current, previous, token));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "영역 변경분 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 줌 레벨별 마커 조회 API (영역 내 아파트가 많으면 클러스터로 반환)
+    @Operation(summary = "지도 마커 조회", description = "영역 내 아파트 수가 maxMarkers 를 넘으면 서버에서 묶은 클러스터를 반환합니다.")
+    @GetMapping("/markers")
+    public ResponseEntity<?> getMarkers(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng,
+            @Parameter(description = "카카오맵 레벨 (1~14)", example = "7") @RequestParam int level,
+            @RequestParam(defaultValue = "300") int maxMarkers) {
+        try {
+            int zoom = TileMath.zoomFromKakaoLevel(level);
+            Map<String, Object> result = houseService.getMarkers(swLat, swLng, neLat, neLng, zoom, maxMarkers);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "마커 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 가격 히트맵 API (격자 셀별 ㎡당 최신 거래가 평균/중앙값, 아파트 수)
+    @Operation(summary = "가격 히트맵", description = "영역을 cellPixels 크기 격자로 나눠 셀별 ㎡당 최신 거래가 평균/중앙값과 아파트 수를 반환합니다.")
+    @GetMapping("/heatmap")
+    public ResponseEntity<?> getHeatmap(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng,
+            @Parameter(description = "카카오맵 레벨 (1~14)", example = "7") @RequestParam int level,
+            @Parameter(description = "셀 한 변의 화면 픽셀 수 (16~256)", example = "64")
+            @RequestParam(defaultValue = "64") int cellPixels) {
+        try {
+            int zoom = TileMath.zoomFromKakaoLevel(level);
+            Map<String, Object> result = new HashMap<>();
+            result.put("type", "heatmap");
+            result.put("data", heatmapService.getHeatmap(swLat, swLng, neLat, neLng, zoom, cellPixels));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "히트맵 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 지역 거래가 통계 API (평균/최소/최대/표준편차 + 분위수, 월별 거래량)
+    @Operation(summary = "지역 거래가 통계", description = "법정동 코드 접두어(시도 2자리, 구군 5자리, 동 10자리) 지역의 기간 내 거래가 통계와 "
+            + "p10/p25/p50/p75/p90 분위수, 월별 거래량을 반환합니다.")
+    @GetMapping("/statistics/area")
+    public ResponseEntity<?> getAreaStatistics(
+            @Parameter(description = "법정동 코드 접두어", example = "11680") @RequestParam(defaultValue = "") String areaCode,
+            @Parameter(description = "기간 (1y, 3y, 5y)", example = "1y") @RequestParam(defaultValue = "1y") String period) {
+        try {
+            return ResponseEntity.ok(statisticsService.getAreaStatistics(areaCode, period));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "지역 통계 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 구군 반복매매 지수 API (같은 평면의 연이은 거래 쌍으로 추정한 월별 가격 지수)
+    @Operation(summary = "구군 반복매매 지수", description = "구군(법정동 코드 5자리)의 Case-Shiller 방식 월별 가격 지수를 반환합니다. "
+            + "지수는 구군 첫 달을 100으로 하며, 평형 구성 변화에 흔들리지 않습니다.")
+    @GetMapping("/statistics/repeat-sales-index")
+    public ResponseEntity<?> getRepeatSalesIndex(
+            @Parameter(description = "구군 법정동 코드 5자리", example = "11680") @RequestParam String areaCode,
+            @Parameter(description = "기간 (1y, 3y, 5y, all)", example = "3y") @RequestParam(defaultValue = "1y") String period) {
+        try {
+            return ResponseEntity.ok(statisticsService.getRepeatSalesIndex(areaCode, period));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "반복매매 지수 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    // 아파트 마커 벡터 타일 API (Mapbox Vector Tile)
+    @Operation(summary = "아파트 벡터 타일", description = "z/x/y 타일의 아파트(고줌) 또는 클러스터(저줌)를 MVT 바이너리로 반환합니다.")
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<?> getTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            byte[] tile = vectorTileService.getTile(z, x, y);
+            String etag = "\"" + Integer.toHexString(Arrays.hashCode(tile)) + "\"";
+            CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+            if (etag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(MvtEncoder.CONTENT_TYPE))
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .body(tile);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "타일 생성 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     /**
      * 지도 영역 내 아파트 + 각 아파트별 최신 거래 1건 반환
      */
@@ -1,5 +1,6 @@
 package com.ssafy.home.controller;
 
+import com.ssafy.home.dto.CountResult;
 import com.ssafy.home.dto.PostDto;
 import com.ssafy.home.dto.PostSearchDto;
 import com.ssafy.home.service.PostService;
@@ -63,7 +64,8 @@ public class PostController {
             @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") Integer page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "12") Integer size,
             @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "추정 건수 모드 (10,000건까지만 세고 넘으면 totalCountCapped)") @RequestParam(defaultValue = "false") boolean estimateCount) {
 
         try {
             int safePage = (page == null) ? 0 : page;
@@ -82,11 +84,13 @@ public class PostController {
                     .build();
 
             List<PostDto> posts = postService.getPosts(searchDto);
-            Integer totalCount = postService.getPostCount(searchDto);
+            CountResult count = countPosts(searchDto, estimateCount);
+            int totalCount = count.getCount();
 
             Map<String, Object> result = Map.of(
                     "posts", posts,
                     "totalCount", totalCount,
+                    "totalCountCapped", count.isCapped(),
                     "currentPage", safePage,
                     "totalPages", (totalCount + safeSize - 1) / safeSize
             );
@@ -328,7 +332,8 @@ public class PostController {
     public ResponseEntity<Response<Map<String, Object>>> searchPosts(
             @Parameter(description = "검색어") @RequestParam String keyword,
             @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") Integer page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "12") Integer size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "12") Integer size,
+            @Parameter(description = "추정 건수 모드 (10,000건까지만 세고 넘으면 totalCountCapped)") @RequestParam(defaultValue = "false") boolean estimateCount) {
 
         try {
             int safePage = (page == null) ? 0 : page;
@@ -345,11 +350,13 @@ public class PostController {
                     .build();
 
             List<PostDto> posts = postService.getPosts(searchDto);
-            Integer totalCount = postService.getPostCount(searchDto);
+            CountResult count = countPosts(searchDto, estimateCount);
+            int totalCount = count.getCount();
 
             Map<String, Object> result = Map.of(
                     "posts", posts,
                     "totalCount", totalCount,
+                    "totalCountCapped", count.isCapped(),
                     "currentPage", safePage,
                     "totalPages", (totalCount + safeSize - 1) / safeSize,
                     "keyword", keyword
@@ -363,6 +370,14 @@ public class PostController {
         }
     }
 
+    // 정확한 건수 또는 상한까지만 센 추정 건수
+    private CountResult countPosts(PostSearchDto searchDto, boolean estimate) {
+        if (estimate) {
+            return postService.getEstimatedPostCount(searchDto);
+        }
+        return new CountResult(postService.getPostCount(searchDto), false);
+    }
+
     // JWT에서 사용자 정보 추출 헬퍼 메서드들
     private Integer extractUserMnoFromAuth(Authentication auth) {
         if (auth == null) return null;
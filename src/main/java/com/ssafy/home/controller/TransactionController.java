@@ -61,9 +61,11 @@ public class TransactionController {
 
         String baseAddress = buildBaseAddress(address);
 
-        // 도로명 주소 가공
+        // 도로명 주소 가공 (도로명 부분은 쿼리에서 조립, 여기서는 동 주소만 앞에 붙인다)
         pageResult.getList().forEach(house ->
-                house.setRoadAddress(buildRoadAddress(baseAddress, house))
+                house.setRoadAddress(house.getRoadAddress() == null
+                        ? baseAddress.trim()
+                        : baseAddress + house.getRoadAddress())
         );
 
         HouseSearchResponse response = new HouseSearchResponse(
@@ -93,13 +95,6 @@ public class TransactionController {
         return sb.toString();
     }
 
-    private String buildRoadAddress(String baseAddress, HouseDongSearchDTO house) {
-        return baseAddress
-                + house.getRoadNm() + " "
-                + house.getRoadNmBonBun() + "-"
-                + house.getRoadNmBuBun();
-    }
-
     @GetMapping("/search")
     @Operation(
             summary = "아파트 거래내역 검색",
@@ -124,6 +119,10 @@ public class TransactionController {
             - price-asc: 가격 낮은순
             - price-desc: 가격 높은순
             - date-desc: 최신순
+            
+            **페이징:**
+            - 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지 (깊은 페이지도 첫 페이지와 같은 비용)
+            - 전체 개수는 커서 없는 첫 요청에서만 계산 (withCount 로 지정 가능)
             """
     )
     @ApiResponses({
@@ -177,7 +176,16 @@ public class TransactionController {
             @RequestParam(defaultValue = "1") Integer page,
 
             @Parameter(description = "페이지 크기 (1~100)", example = "10")
-            @RequestParam(defaultValue = "10") Integer size) {
+            @RequestParam(defaultValue = "10") Integer size,
+
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 있으면 page 무시)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "전체 개수 계산 여부 (기본: 커서 없는 첫 요청만 계산)")
+            @RequestParam(required = false) Boolean withCount,
+
+            @Parameter(description = "추정 건수 모드 (10,000건까지만 세고 넘으면 totalCountCapped)")
+            @RequestParam(defaultValue = "false") boolean estimateCount) {
 
         try {
             // 입력값 검증
@@ -205,6 +213,9 @@ public class TransactionController {
             request.setSortOrder(sortOrder);
             request.setPage(page);
             request.setSize(size);
+            request.setCursor(cursor == null || cursor.isBlank() ? null : cursor.trim());
+            request.setWithCount(withCount);
+            request.setEstimateCount(estimateCount);
 
             PropertySearchResponse result = propertyService.searchProperties(request);
 
@@ -212,8 +223,13 @@ public class TransactionController {
                 return new Response<>(true, "검색 결과가 없습니다.", result);
             }
 
+            if (result.getTotalCount() == null) {
+                return new Response<>(true, "거래내역을 조회했습니다.", result);
+            }
+
             return new Response<>(true,
-                    String.format("총 %d건의 거래내역을 찾았습니다.", result.getTotalCount()),
+                    String.format(result.isTotalCountCapped() ? "총 %,d건 이상의 거래내역을 찾았습니다." : "총 %d건의 거래내역을 찾았습니다.",
+                            result.getTotalCount()),
                     result);
 
         } catch (IllegalArgumentException e) {
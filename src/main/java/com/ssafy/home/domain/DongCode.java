@@ -21,6 +21,8 @@ public class DongCode {
     private Double lat;
     private Double lng;
     private Long avgPrice;
+    // 지역 내 아파트 최신 거래가 합 (avg_price 증분 유지용)
+    private Long priceSum;
     private Integer aptCount;
     private LocalDateTime updatedAt;
 }
@@ -1,5 +1,7 @@
 package com.ssafy.home.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ssafy.home.util.PriceUtil;
 import lombok.*;
 import org.springframework.stereotype.Component;
 
@@ -21,4 +23,16 @@ public class HouseDeal {
     private int dealDay;
     private double excluUseAr;
     private String dealAmount;
+    // 거래가(만원), DB 생성 컬럼 price 에서 읽는다 (0 = 읽지 않음)
+    private long price;
+    // 예전 한글 태그 실거래가 응답의 법정동/지번 (aptSeq 가 없어 아파트를 찾는 데만 쓰고 저장/응답하지 않음)
+    @JsonIgnore
+    private String umdNm;
+    @JsonIgnore
+    private String jibun;
+
+    // 거래가(만원), 직접 만든 객체처럼 price 가 비어 있으면 deal_amount 를 파싱 (잘못된 값이면 -1)
+    public long getPrice() {
+        return price > 0 ? price : PriceUtil.parseDealAmount(dealAmount);
+    }
 }
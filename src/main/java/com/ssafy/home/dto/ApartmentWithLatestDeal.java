@@ -24,11 +24,16 @@ public class ApartmentWithLatestDeal {
 
     // 최신 거래 정보
     private String latestDealAmount;
+    // 최신 거래가(만원), 거래가 없으면 null
+    private Long latestPrice;
     private Double latestExcluUseAr;
     private Integer latestDealYear;
     private Integer latestDealMonth;
     private Integer latestDealDay;
 
+    // 기준점으로부터 거리(미터), 주변 검색에서만 채움
+    private Double distance;
+
     // getter/setter
 
     public static ApartmentWithLatestDeal from(com.ssafy.home.domain.HouseInfo info,
@@ -49,6 +54,8 @@ public class ApartmentWithLatestDeal {
         dto.setLongitude(info.getLongitude());
         if (deal != null) {
             dto.setLatestDealAmount(deal.getDealAmount());
+            long price = deal.getPrice();
+            dto.setLatestPrice(price < 0 ? null : price);
             dto.setLatestExcluUseAr(deal.getExcluUseAr());
             dto.setLatestDealYear(deal.getDealYear());
             dto.setLatestDealMonth(deal.getDealMonth());
@@ -0,0 +1,20 @@
+package com.ssafy.home.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 목록 전체 건수
+ * - capped 이면 실제 건수는 count 이상 (상한까지만 셈, 화면에는 "10,000+" 형태로 표시)
+ */
+@Getter
+@AllArgsConstructor
+public class CountResult {
+    private final int count;
+    private final boolean capped;
+
+    // 상한 cap 으로 센 결과 (cap 보다 많이 세어졌으면 cap 이상)
+    public static CountResult ofCapped(int counted, int cap) {
+        return counted > cap ? new CountResult(cap, true) : new CountResult(counted, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.home.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HeatmapCell {
+    // 셀 영역
+    private double south;
+    private double west;
+    private double north;
+    private double east;
+    // 셀 내 아파트 수
+    private int count;
+    // 최신 거래 기준 ㎡당 가격 (만원, 거래 없는 아파트 제외, 없으면 null)
+    private Double avgPricePerM2;
+    private Double medianPricePerM2;
+}
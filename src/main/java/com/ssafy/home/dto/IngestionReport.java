@@ -0,0 +1,34 @@
+package com.ssafy.home.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 실거래가 적재 결과 (한 달, 여러 시군구)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestionReport {
+    private String dealYmd;
+    private int regions;
+    // API 에서 받은 거래 (해제 거래 제외)
+    private int fetched;
+    // 해제되어 건너뛴 거래
+    private int cancelled;
+    // 이미 적재되어 있던 거래
+    private int duplicates;
+    // houseinfos 에 없는 아파트의 거래 (FK 때문에 적재하지 않음)
+    private int unknownApartments;
+    // 날짜/금액이 잘못되었거나 다른 달의 거래
+    private int invalid;
+    private int inserted;
+    // 실패한 시군구 코드
+    private List<String> failedRegions;
+    private long elapsedMillis;
+}
@@ -0,0 +1,19 @@
+package com.ssafy.home.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MarkerCluster {
+    private double lat;
+    private double lng;
+    private int count;
+    // 클러스터 내 아파트 최신 거래가 평균 (만원, 거래 없는 아파트 제외)
+    private Long avgLatestPrice;
+    private String representativeAptSeq;
+}
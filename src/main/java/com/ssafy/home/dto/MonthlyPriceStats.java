@@ -0,0 +1,51 @@
+package com.ssafy.home.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아파트 1곳의 한 달 거래가 집계 (housedeal_monthly_stats 한 행, 가격 단위 만원)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MonthlyPriceStats {
+    private String aptSeq;
+    private int yyyymm;
+    private int dealCount;
+    private long priceSum;
+    private long priceMin;
+    private long priceMax;
+    // 가격 제곱합 (표준편차 계산용)
+    private long priceSumsq;
+
+    public static MonthlyPriceStats of(String aptSeq, int yyyymm) {
+        return MonthlyPriceStats.builder()
+                .aptSeq(aptSeq)
+                .yyyymm(yyyymm)
+                .priceMin(Long.MAX_VALUE)
+                .priceMax(Long.MIN_VALUE)
+                .build();
+    }
+
+    public void add(long price) {
+        dealCount++;
+        priceSum += price;
+        priceMin = Math.min(priceMin, price);
+        priceMax = Math.max(priceMax, price);
+        priceSumsq += price * price;
+    }
+
+    public double avgPrice() {
+        return (double) priceSum / dealCount;
+    }
+
+    // 모표준편차 (기존 SQL STD() 와 같은 정의)
+    public double priceStd() {
+        double avg = avgPrice();
+        return Math.sqrt(Math.max(0, (double) priceSumsq / dealCount - avg * avg));
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.home.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다각형(올가미) 영역 아파트 검색 요청
+ * - path: 꼭짓점 목록 [[위도, 경도], ...] (닫는 점은 생략 가능)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolygonSearchRequest {
+    private List<double[]> path;
+}
@@ -32,6 +32,7 @@ public class PostSearchDto {
     private Integer page;
     private Integer size;
     private Integer offset;
+    private Integer countCap;     // 상한 COUNT 용 (countPostsCapped)
 
     @Builder.Default
     private String sortBy = "createdAt";
@@ -19,4 +19,7 @@ public class PropertySearchRequest {
     private String sortOrder = "date-desc";         // price-asc, price-desc, date-desc
     private Integer page = 1;         // 페이지 번호
     private Integer size = 10;        // 페이지 크기
+    private String cursor;            // 이전 응답의 nextCursor (있으면 page 대신 커서 다음부터)
+    private Boolean withCount;        // 전체 개수 계산 여부 (null 이면 첫 요청에만 계산)
+    private boolean estimateCount;    // 전체 개수를 상한(COUNT_CAP)까지만 셀지 여부
 }
@@ -17,6 +17,9 @@ import java.util.List;
 public class PropertySearchResponse {
     private List<HouseDeal> properties;
     private Integer totalCount;
+    private boolean totalCountCapped; // true 면 실제 건수는 totalCount 이상
     private Integer totalPages;
     private Integer currentPage;
+    private String nextCursor;        // 다음 페이지 커서, 마지막 페이지면 null
+    private boolean hasNext;
 }
\ No newline at end of file
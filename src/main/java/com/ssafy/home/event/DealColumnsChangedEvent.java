@@ -0,0 +1,21 @@
+package com.ssafy.home.event;
+
+import com.ssafy.home.util.DealColumns;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 거래 열 저장소 스냅샷이 바뀌었을 때 발행되는 이벤트 (저장소 잠금 안에서 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class DealColumnsChangedEvent {
+    // 바뀐 뒤의 전체 스냅샷
+    private final DealColumns columns;
+    // 이번에 추가된 거래만 담은 스냅샷, 전체 재적재면 null
+    private final DealColumns appended;
+
+    public boolean isReloaded() {
+        return appended == null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ssafy.home.event;
+
+import com.ssafy.home.domain.HouseDeal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * housedeals 에 새 거래가 적재된 뒤 발행되는 이벤트
+ * - 메모리 집계/캐시들이 구독해 증분 갱신한다
+ */
+@Getter
+@AllArgsConstructor
+public class HouseDealsIngestedEvent {
+    private final List<HouseDeal> deals;
+}
@@ -0,0 +1,25 @@
+package com.ssafy.home.event;
+
+import com.ssafy.home.domain.HouseDeal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 아파트별 최신 거래가 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class LatestDealsChangedEvent {
+    private final List<Change> changes;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Change {
+        private final String aptSeq;
+        // 이전 최신 거래 (없었으면 null)
+        private final HouseDeal previous;
+        private final HouseDeal current;
+    }
+}
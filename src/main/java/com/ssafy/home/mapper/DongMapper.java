@@ -2,6 +2,7 @@ package com.ssafy.home.mapper;
 
 import com.ssafy.home.domain.DongCode;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -28,4 +29,13 @@ public interface DongMapper {
     public List<DongCode> getDongListBySidoAndGugun(String sido, String gugun);
 
     public int deleteAll();
+
+    // 지역 데이터 버전 ("행 수/최종 갱신 시각") - 메모리 지역 트리 갱신 여부 판단용
+    public String getRegionsVersion();
+
+    // 평균가 증분 갱신 - 대상 지역 행 잠금 조회 (코드 순)
+    public List<DongCode> selectRegionPricesForUpdate(@Param("codes") List<String> codes);
+
+    // 평균가 증분 갱신 - avg_price/price_sum/apt_count 반영
+    public int updateRegionPrices(@Param("regions") List<DongCode> regions);
 }
\ No newline at end of file
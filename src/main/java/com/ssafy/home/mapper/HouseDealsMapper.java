@@ -1,8 +1,10 @@
 package com.ssafy.home.mapper;
 
 import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.dto.MonthlyPriceStats;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 import java.util.Map;
@@ -11,6 +13,16 @@ import java.util.Map;
 public interface HouseDealsMapper {
     public void insertHouseDeal(HouseDeal housedeal);
 
+    public void insertHouseDeals(@Param("deals") List<HouseDeal> deals);
+
+    // latest_housedeals 증분 갱신용
+    List<HouseDeal> selectLatestDealsForUpdate(@Param("aptSeqs") List<String> aptSeqs);
+
+    void upsertLatestDeals(@Param("deals") List<HouseDeal> deals);
+
+    // housedeal_monthly_stats 증분 갱신용 (기존 행에 더함)
+    void upsertMonthlyStats(@Param("stats") List<MonthlyPriceStats> stats);
+
     public List<HouseDeal> getAllHouseDeals();
 
     public HouseDeal getHouseDealByCode(int code);
@@ -26,4 +38,15 @@ public interface HouseDealsMapper {
     List<HouseDeal> findDealsWithFilter(@Param("params") Map<String, Object> params);
 
     Integer countDeals(@Param("params") Map<String, Object> params);
+
+    // params.countCap 건까지만 센 건수
+    Integer countDealsCapped(@Param("params") Map<String, Object> params);
+
+    // 시군구 + 거래연월의 기존 거래
+    List<HouseDeal> findDealsBySggAndMonth(@Param("sggCd") String sggCd,
+                                           @Param("dealYear") int dealYear,
+                                           @Param("dealMonth") int dealMonth);
+
+    // 분석용 열 저장소 적재 - 전체 거래를 한 건씩 handler 로 전달
+    void scanDealsForAnalytics(ResultHandler<HouseDeal> handler);
 }
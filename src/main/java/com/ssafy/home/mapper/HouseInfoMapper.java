@@ -23,6 +23,19 @@ public interface HouseInfoMapper {
 
     public List<HouseDongSearchDTO> getHouseInfosByDongCode(String code);
 
+    // 동 코드 기준 거래 한 페이지 (도로명 주소 포함)
+    public List<HouseDongSearchDTO> getPagedHouseInfosByDongCode(@Param("code") String code,
+                                                                 @Param("offset") int offset,
+                                                                 @Param("limit") int limit);
+
+    public int countHouseDealsByDongCode(String code);
+
+    List<HouseInfo> findApartmentKeysBySggCd(@Param("sggCd") String sggCd);
+
+    List<String> findAllSggCds();
+
+    List<HouseInfo> findRegionCodesByAptSeqs(@Param("aptSeqs") List<String> aptSeqs);
+
     public List<HouseDongSearchDTO> getHouseInfosBySigugunCode(String code);
 
     public List<HouseDongGroupDTO> getGroupedHouseInfoByDongCode(String code);
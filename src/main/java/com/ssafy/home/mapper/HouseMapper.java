@@ -5,6 +5,8 @@ import com.ssafy.home.domain.HouseDeal;
 import com.ssafy.home.domain.HouseInfo;
 import com.ssafy.home.dto.ApartmentWithLatestDeal;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 import java.util.List;
 import java.util.Map;
@@ -12,9 +14,27 @@ import java.util.Map;
 @Mapper
 public interface HouseMapper {
 
-  @Select("SELECT * FROM houseinfos " +
-      "WHERE CAST(latitude AS DOUBLE) BETWEEN #{swLat} AND #{neLat} " +
-      "AND CAST(longitude AS DOUBLE) BETWEEN #{swLng} AND #{neLng}")
+  // houseinfos 조회 컬럼 (location 은 인덱스 전용이라 읽지 않음)
+  String HOUSEINFO_COLUMNS = "apt_seq, sgg_cd, umd_cd, umd_nm, jibun, road_nm_sgg_cd, road_nm, "
+      + "road_nm_bonbun, road_nm_bubun, apt_nm, build_year, latitude, longitude";
+
+  // 지도 영역 사각형 (SRID 4326, 경도-위도 순서) - location SPATIAL INDEX 로 검색
+  String BOUNDS_ENVELOPE = "ST_GeomFromText(CONCAT('POLYGON((', "
+      + "#{swLng}, ' ', #{swLat}, ',', #{neLng}, ' ', #{swLat}, ',', "
+      + "#{neLng}, ' ', #{neLat}, ',', #{swLng}, ' ', #{neLat}, ',', "
+      + "#{swLng}, ' ', #{swLat}, '))'), 4326, 'axis-order=long-lat')";
+
+  // 반경 검색용 외접 사각형 (위도 1도 = 약 111,320m, 경도는 cos(위도) 보정)
+  String RADIUS_ENVELOPE = "ST_GeomFromText(CONCAT('POLYGON((', "
+      + "#{lng} - #{radius} / (111320 * COS(RADIANS(#{lat}))), ' ', #{lat} - #{radius} / 111320, ',', "
+      + "#{lng} + #{radius} / (111320 * COS(RADIANS(#{lat}))), ' ', #{lat} - #{radius} / 111320, ',', "
+      + "#{lng} + #{radius} / (111320 * COS(RADIANS(#{lat}))), ' ', #{lat} + #{radius} / 111320, ',', "
+      + "#{lng} - #{radius} / (111320 * COS(RADIANS(#{lat}))), ' ', #{lat} + #{radius} / 111320, ',', "
+      + "#{lng} - #{radius} / (111320 * COS(RADIANS(#{lat}))), ' ', #{lat} - #{radius} / 111320, "
+      + "'))'), 4326, 'axis-order=long-lat')";
+
+  @Select("SELECT " + HOUSEINFO_COLUMNS + " FROM houseinfos " +
+      "WHERE MBRContains(" + BOUNDS_ENVELOPE + ", location)")
   @Results(id = "houseDealMap", value = {
       @Result(property = "aptSeq", column = "apt_seq"),
       @Result(property = "sggCd", column = "sgg_cd"),
@@ -36,7 +56,7 @@ public interface HouseMapper {
       @Param("neLat") double neLat,
       @Param("neLng") double neLng);
 
-  @Select("SELECT d.dong_name, AVG(CAST(h.deal_amount AS UNSIGNED)) as avgPrice, " +
+  @Select("SELECT d.dong_name, AVG(h.price) as avgPrice, " +
       "COUNT(*) as dealCount, d.lat, d.lng " +
       "FROM housedeals h " +
       "JOIN dongcodes d ON h.dong_code = d.dong_code " +
@@ -49,13 +69,12 @@ public interface HouseMapper {
       @Param("neLat") double neLat,
       @Param("neLng") double neLng);
 
-  @Select("SELECT hi.apt_name, AVG(CAST(hd.deal_amount AS UNSIGNED)) as avgPrice, " +
+  @Select("SELECT hi.apt_name, AVG(hd.price) as avgPrice, " +
       "COUNT(*) as dealCount, hi.latitude, hi.longitude, " +
       "MAX(CONCAT(hd.deal_year, hd.deal_month, hd.deal_day)) as latestDeal " +
       "FROM houseinfos hi " +
       "JOIN housedeals hd ON hi.apt_seq = hd.apt_seq " +
-      "WHERE hi.latitude BETWEEN #{swLat} AND #{neLat} " +
-      "AND hi.longitude BETWEEN #{swLng} AND #{neLng} " +
+      "WHERE MBRContains(" + BOUNDS_ENVELOPE + ", hi.location) " +
       "GROUP BY hi.apt_name, hi.latitude, hi.longitude")
   List<Map<String, Object>> findDetailedApartmentInfo(
       @Param("swLat") double swLat,
@@ -71,15 +90,13 @@ public interface HouseMapper {
    * @param lat    위도
    * @param lng    경도
    * @param radius 반경(미터)
-   * @return 검색된 아파트 목록
+   * @return 검색된 아파트 목록 (가까운 순)
    */
-  @Select("SELECT * FROM houseinfos " +
-      "WHERE (6371 * acos(cos(radians(#{lat})) * cos(radians(CAST(latitude AS DOUBLE))) * " +
-      "cos(radians(CAST(longitude AS DOUBLE)) - radians(#{lng})) + " +
-      "sin(radians(#{lat})) * sin(radians(CAST(latitude AS DOUBLE))))) <= #{radius/1000} " +
-      "ORDER BY (6371 * acos(cos(radians(#{lat})) * cos(radians(CAST(latitude AS DOUBLE))) * " +
-      "cos(radians(CAST(longitude AS DOUBLE)) - radians(#{lng})) + " +
-      "sin(radians(#{lat})) * sin(radians(CAST(latitude AS DOUBLE))))) ASC")
+  @Select("SELECT " + HOUSEINFO_COLUMNS + " FROM houseinfos " +
+      "WHERE MBRContains(" + RADIUS_ENVELOPE + ", location) " +
+      "AND ST_Distance_Sphere(location, ST_SRID(POINT(#{lng}, #{lat}), 4326)) <= #{radius} " +
+      "ORDER BY ST_Distance_Sphere(location, ST_SRID(POINT(#{lng}, #{lat}), 4326))")
+  @ResultMap("houseDealMap")
   List<HouseInfo> findApartmentsByLocation(@Param("lat") double lat, @Param("lng") double lng,
       @Param("radius") int radius);
 
@@ -92,31 +109,35 @@ public interface HouseMapper {
   @Select("SELECT * FROM housedeals WHERE apt_seq = #{aptSeq} ORDER BY deal_year DESC, deal_month DESC, deal_day DESC")
   List<HouseDeal> findDealsByAptSeq(@Param("aptSeq") String aptSeq);
 
+  /**
+   * 특정 아파트의 거래 내역 스트리밍 조회 (트랜잭션 안에서만 읽을 수 있음)
+   */
+  @Select("SELECT * FROM housedeals WHERE apt_seq = #{aptSeq} ORDER BY deal_year DESC, deal_month DESC, deal_day DESC")
+  @Options(fetchSize = Integer.MIN_VALUE, resultSetType = ResultSetType.FORWARD_ONLY)
+  Cursor<HouseDeal> streamDealsByAptSeq(@Param("aptSeq") String aptSeq);
+
+  /**
+   * 여러 아파트의 최신 거래를 한 번의 쿼리로 조회
+   *
+   * @param aptSeqs 아파트 일련번호 목록 (비어 있으면 안 됨)
+   * @return 아파트별 최신 거래 1건씩
+   */
+  List<HouseDeal> findLatestDealsByAptSeqs(@Param("aptSeqs") List<String> aptSeqs);
+
+  // 아파트별 최신 거래 전체 (latest_housedeals)
+  @Select("SELECT apt_seq, deal_year, deal_month, deal_day, deal_amount, price, exclu_use_ar FROM latest_housedeals")
+  List<HouseDeal> findAllLatestDeals();
+
   @Select("""
-      WITH latest_deal_per_apt AS (
-          SELECT
-              hi.apt_seq,
-              hi.sgg_cd,
-              hi.umd_cd,
-              hi.latitude,
-              hi.longitude,
-              hd.deal_year,
-              hd.deal_month,
-              hd.deal_day,
-              hd.deal_amount,
-              ROW_NUMBER() OVER (PARTITION BY hi.apt_seq ORDER BY hd.deal_year DESC, hd.deal_month DESC, hd.deal_day DESC) AS rn
-          FROM houseinfos hi
-          JOIN housedeals hd ON hi.apt_seq = hd.apt_seq
-          WHERE CAST(hi.latitude AS DECIMAL(10,7)) BETWEEN #{swLat} AND #{neLat}
-            AND CAST(hi.longitude AS DECIMAL(10,7)) BETWEEN #{swLng} AND #{neLng}
-      )
       SELECT
-          ${regionColumn} AS region_code,
-          AVG(CAST(REPLACE(deal_amount, ',', '') AS UNSIGNED)) AS avg_latest_deal_price,
+          hi.${regionColumn} AS region_code,
+          AVG(ld.price) AS avg_latest_deal_price,
           COUNT(*) AS apt_count
-      FROM latest_deal_per_apt
-      WHERE rn = 1
-      GROUP BY ${regionColumn}
+      FROM houseinfos hi
+      JOIN latest_housedeals ld ON ld.apt_seq = hi.apt_seq
+      WHERE MBRContains(""" + BOUNDS_ENVELOPE + """
+      , hi.location)
+      GROUP BY hi.${regionColumn}
       """)
   List<Map<String, Object>> findLatestDealPriceByRegion(
       @Param("swLat") double swLat,
@@ -221,4 +242,11 @@ public interface HouseMapper {
       @Param("neLat") double neLat,
       @Param("neLng") double neLng);
 
+  // 지도 영역 내 아파트 + 최신 거래 스트리밍 조회 (트랜잭션 안에서만 읽을 수 있음)
+  Cursor<ApartmentWithLatestDeal> streamApartmentsWithLatestDealInBounds(
+      @Param("swLat") double swLat,
+      @Param("swLng") double swLng,
+      @Param("neLat") double neLat,
+      @Param("neLng") double neLng);
+
 }
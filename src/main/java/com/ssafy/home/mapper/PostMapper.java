@@ -55,5 +55,8 @@ public interface PostMapper {
     // 게시글 수 조회
     Integer countPosts(PostSearchDto searchDto);
 
+    // 게시글 수 조회 (searchDto.countCap 건까지만 셈)
+    Integer countPostsCapped(PostSearchDto searchDto);
+
     Integer countPostsByAuthor(@Param("authorMno") Integer authorMno);
 }
\ No newline at end of file
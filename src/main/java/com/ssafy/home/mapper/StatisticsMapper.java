@@ -1,5 +1,6 @@
 package com.ssafy.home.mapper;
 
+import com.ssafy.home.dto.MonthlyPriceStats;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
@@ -10,23 +11,17 @@ import java.util.Map;
 @Mapper
 public interface StatisticsMapper {
 
-    @Select("SELECT CONCAT(dealYear, '-', LPAD(dealMonth, 2, '0')) as yearMonth, " +
-            "AVG(CAST(dealAmount AS UNSIGNED)) as avgPrice, " +
-            "COUNT(*) as dealCount " +
-            "FROM housedeals " +
-            "WHERE aptSeq = #{aptSeq} " +
-            "AND ((dealYear > #{startYear}) OR " +
-            "     (dealYear = #{startYear} AND dealMonth >= #{startMonth})) " +
-            "AND ((dealYear < #{endYear}) OR " +
-            "     (dealYear = #{endYear} AND dealMonth <= #{endMonth})) " +
-            "GROUP BY yearMonth " +
-            "ORDER BY yearMonth")
-    List<Map<String, Object>> findMonthlyAveragePrices(
+    // 아파트 월간 거래가 집계 (housedeal_monthly_stats, PK 범위 스캔)
+    @Select("SELECT apt_seq as aptSeq, yyyymm, deal_count as dealCount, price_sum as priceSum, " +
+            "price_min as priceMin, price_max as priceMax, price_sumsq as priceSumsq " +
+            "FROM housedeal_monthly_stats " +
+            "WHERE apt_seq = #{aptSeq} " +
+            "AND yyyymm BETWEEN #{fromYyyymm} AND #{toYyyymm} " +
+            "ORDER BY yyyymm")
+    List<MonthlyPriceStats> findMonthlyStats(
             @Param("aptSeq") String aptSeq,
-            @Param("startYear") int startYear,
-            @Param("startMonth") int startMonth,
-            @Param("endYear") int endYear,
-            @Param("endMonth") int endMonth);
+            @Param("fromYyyymm") int fromYyyymm,
+            @Param("toYyyymm") int toYyyymm);
 
     @Select("SELECT " +
             "AVG(CAST(dealAmount AS UNSIGNED)) as avgPrice, " +
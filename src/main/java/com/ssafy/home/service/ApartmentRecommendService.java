@@ -89,13 +89,11 @@ public class ApartmentRecommendService {
                     .filter(a -> {
                         try {
                             boolean ok = true;
-                            if (condition.getMinPrice() != null && a.getLatestDealAmount() != null) {
-                                int price = Integer.parseInt(a.getLatestDealAmount().replace(",", ""));
-                                ok &= price >= condition.getMinPrice();
+                            if (condition.getMinPrice() != null && a.getLatestPrice() != null) {
+                                ok &= a.getLatestPrice() >= condition.getMinPrice();
                             }
-                            if (condition.getMaxPrice() != null && a.getLatestDealAmount() != null) {
-                                int price = Integer.parseInt(a.getLatestDealAmount().replace(",", ""));
-                                ok &= price <= condition.getMaxPrice();
+                            if (condition.getMaxPrice() != null && a.getLatestPrice() != null) {
+                                ok &= a.getLatestPrice() <= condition.getMaxPrice();
                             }
                             if (condition.getMinArea() != null && a.getLatestExcluUseAr() != null) {
                                 ok &= a.getLatestExcluUseAr() >= condition.getMinArea();
@@ -135,8 +133,8 @@ public class ApartmentRecommendService {
                 }
 
                 try {
-                    apt.setPrice(info.getLatestDealAmount() != null
-                            ? Integer.parseInt(info.getLatestDealAmount().replace(",", ""))
+                    apt.setPrice(info.getLatestPrice() != null
+                            ? Math.toIntExact(info.getLatestPrice())
                             : 0);
                 } catch (Exception e) {
                     log.warn("가격 변환 실패 - 아파트: {}, 에러: {}", info.getAptNm(), e.getMessage());
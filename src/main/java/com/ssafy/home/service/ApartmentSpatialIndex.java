@@ -0,0 +1,299 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.mapper.HouseInfoMapper;
+import com.ssafy.home.util.HilbertRTree;
+import com.ssafy.home.util.Polygon;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * houseinfos 전체를 메모리에 올려 둔 아파트 공간 인덱스
+ * - 애플리케이션 시작 시 1회 빌드, 데이터 변경 시 rebuild() 로 새 스냅샷을 만들어 교체
+ * - 조회는 불변 스냅샷만 읽으므로 락이 필요 없다
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ApartmentSpatialIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final HouseInfoMapper houseInfoMapper;
+
+    private volatile Snapshot snapshot;
+    private final AtomicLong generations = new AtomicLong();
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // houseinfos 를 다시 읽어 인덱스 재생성
+    public synchronized void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Snapshot next = Snapshot.of(houseInfoMapper.getAllHouseInfo());
+            next.generation = generations.incrementAndGet();
+            snapshot = next;
+            log.info("아파트 공간 인덱스 빌드 완료 - {}건, {}ms", next.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("아파트 공간 인덱스 빌드 실패 - 기존 인덱스 유지", e);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    // 지도 영역 내 아파트 조회
+    public List<HouseInfo> findInBounds(double swLat, double swLng, double neLat, double neLng) {
+        Snapshot s = snapshot;
+        List<HouseInfo> result = new ArrayList<>();
+        if (s == null) {
+            return result;
+        }
+        s.tree.search(swLng, swLat, neLng, neLat, i -> result.add(s.apartments[i]));
+        return result;
+    }
+
+    // 지도 영역 내 아파트 수
+    public int countInBounds(double swLat, double swLng, double neLat, double neLng) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            return 0;
+        }
+        int[] count = new int[1];
+        s.tree.search(swLng, swLat, neLng, neLat, i -> count[0]++);
+        return count[0];
+    }
+
+    // 다각형 내부 아파트 (외접 사각형으로 후보를 거른 뒤 점-다각형 판정)
+    public List<HouseInfo> findInPolygon(Polygon polygon) {
+        Snapshot s = snapshot;
+        List<HouseInfo> result = new ArrayList<>();
+        if (s == null) {
+            return result;
+        }
+        s.tree.search(polygon.minX(), polygon.minY(), polygon.maxX(), polygon.maxY(), i -> {
+            if (polygon.contains(s.lngs[i], s.lats[i])) {
+                result.add(s.apartments[i]);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * from 영역에는 있고 except 영역에는 없는 아파트
+     * - from 에서 두 영역의 교집합을 뺀 나머지를 최대 4개의 띠로 나눠 각각 검색
+     */
+    public List<HouseInfo> findInDifference(Snapshot s, Bounds from, Bounds except) {
+        List<HouseInfo> result = new ArrayList<>();
+        double minLat = Math.max(from.swLat, except.swLat);
+        double maxLat = Math.min(from.neLat, except.neLat);
+        double minLng = Math.max(from.swLng, except.swLng);
+        double maxLng = Math.min(from.neLng, except.neLng);
+
+        List<double[]> strips = new ArrayList<>(4);
+        if (minLat > maxLat || minLng > maxLng) {
+            strips.add(new double[]{from.swLng, from.swLat, from.neLng, from.neLat});
+        } else {
+            // 좌/우 띠는 from 의 높이 전체, 상/하 띠는 교집합의 폭만큼
+            strips.add(new double[]{from.swLng, from.swLat, minLng, from.neLat});
+            strips.add(new double[]{maxLng, from.swLat, from.neLng, from.neLat});
+            strips.add(new double[]{minLng, from.swLat, maxLng, minLat});
+            strips.add(new double[]{minLng, maxLat, maxLng, from.neLat});
+        }
+
+        // found[0] = 찾은 위치 배열 (늘어나면 교체), count[0] = 개수
+        int[][] found = {new int[16]};
+        int[] count = new int[1];
+        for (double[] strip : strips) {
+            if (strip[0] > strip[2] || strip[1] > strip[3]) {
+                continue;
+            }
+            s.tree.search(strip[0], strip[1], strip[2], strip[3], i -> {
+                if (!except.contains(s.lats[i], s.lngs[i])) {
+                    if (count[0] == found[0].length) {
+                        found[0] = Arrays.copyOf(found[0], count[0] * 2);
+                    }
+                    found[0][count[0]++] = i;
+                }
+            });
+        }
+        // 띠 경계 위의 점은 두 번 나올 수 있어 정렬 후 중복 제거
+        int[] positions = found[0];
+        Arrays.sort(positions, 0, count[0]);
+        for (int k = 0; k < count[0]; k++) {
+            if (k == 0 || positions[k] != positions[k - 1]) {
+                result.add(s.apartments[positions[k]]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지도 영역 (양 끝 포함)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Bounds {
+        private final double swLat;
+        private final double swLng;
+        private final double neLat;
+        private final double neLng;
+
+        public boolean contains(double lat, double lng) {
+            return lat >= swLat && lat <= neLat && lng >= swLng && lng <= neLng;
+        }
+    }
+
+    /**
+     * (lat, lng) 에서 가까운 아파트 최대 k 개 (가까운 순)
+     * - 트리 탐색은 기준 위도의 cos 로 경도를 보정한 평면 거리, 반환 거리는 구면(하버사인) 거리
+     *
+     * @param radius 반경(미터), 0 이하면 제한 없음
+     */
+    public List<Nearby> findNearest(double lat, double lng, int k, int radius) {
+        Snapshot s = snapshot;
+        List<Nearby> result = new ArrayList<>();
+        if (s == null || k <= 0) {
+            return result;
+        }
+        // 평면 근사 오차를 감안해 반경을 조금 넓혀 찾고 실제 거리로 다시 거른다
+        double maxDegrees = radius > 0 ? radius * 1.01 / METERS_PER_DEGREE : Double.POSITIVE_INFINITY;
+        int[] nearest = s.tree.nearest(lng, lat, k, maxDegrees, Math.cos(Math.toRadians(lat)));
+        for (int i : nearest) {
+            double distance = distanceMeters(lat, lng, s.lats[i], s.lngs[i]);
+            if (radius <= 0 || distance <= radius) {
+                result.add(new Nearby(s.apartments[i], distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Nearby::getDistance));
+        return result;
+    }
+
+    // 두 좌표 사이 구면 거리(미터)
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Nearby {
+        private final HouseInfo apartment;
+        // 기준점으로부터 거리(미터)
+        private final double distance;
+    }
+
+    /**
+     * 인덱스 한 세대의 불변 스냅샷
+     * - apartments[i], lats[i], lngs[i] 는 같은 아파트
+     */
+    public static final class Snapshot {
+        private final HouseInfo[] apartments;
+        private final double[] lats;
+        private final double[] lngs;
+        private final HilbertRTree tree;
+        private final Map<String, Integer> positions;
+        // 인덱스 세대 번호 (rebuild 마다 증가, 뷰포트 토큰 검증용)
+        private long generation;
+
+        private Snapshot(HouseInfo[] apartments, double[] lats, double[] lngs) {
+            this.apartments = apartments;
+            this.lats = lats;
+            this.lngs = lngs;
+            this.tree = new HilbertRTree(lngs, lats);
+            this.positions = new HashMap<>(apartments.length * 2);
+            for (int i = 0; i < apartments.length; i++) {
+                positions.put(apartments[i].getAptSeq(), i);
+            }
+        }
+
+        public static Snapshot of(List<HouseInfo> houseInfos) {
+            List<HouseInfo> valid = new ArrayList<>(houseInfos.size());
+            List<double[]> coords = new ArrayList<>(houseInfos.size());
+            for (HouseInfo info : houseInfos) {
+                double[] latLng = parseLatLng(info);
+                if (latLng != null) {
+                    valid.add(info);
+                    coords.add(latLng);
+                }
+            }
+            int n = valid.size();
+            double[] lats = new double[n];
+            double[] lngs = new double[n];
+            for (int i = 0; i < n; i++) {
+                lats[i] = coords.get(i)[0];
+                lngs[i] = coords.get(i)[1];
+            }
+            return new Snapshot(valid.toArray(new HouseInfo[0]), lats, lngs);
+        }
+
+        private static double[] parseLatLng(HouseInfo info) {
+            if (info.getLatitude() == null || info.getLongitude() == null) {
+                return null;
+            }
+            try {
+                return new double[]{Double.parseDouble(info.getLatitude()), Double.parseDouble(info.getLongitude())};
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        public int size() {
+            return apartments.length;
+        }
+
+        public long generation() {
+            return generation;
+        }
+
+        // aptSeq 의 인덱스 내 위치, 없으면 -1
+        public int indexOf(String aptSeq) {
+            Integer i = positions.get(aptSeq);
+            return i == null ? -1 : i;
+        }
+
+        public HouseInfo apartment(int i) {
+            return apartments[i];
+        }
+
+        public double lat(int i) {
+            return lats[i];
+        }
+
+        public double lng(int i) {
+            return lngs[i];
+        }
+
+        public HilbertRTree tree() {
+            return tree;
+        }
+    }
+}
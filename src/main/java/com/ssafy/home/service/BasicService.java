@@ -9,6 +9,7 @@ import com.ssafy.home.mapper.HouseInfoMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -32,14 +33,16 @@ public class BasicService {
         return houseInfoMapper.getGroupedHouseInfoByDongCode(dongCode);
     }
 
-    // 4. 동 코드로 아파트 정보 페이지네이션 조회
+    // 4. 동 코드로 아파트 정보 페이지네이션 조회 (한 페이지 행만 DB 에서 읽는다)
     public PageDTO<HouseDongSearchDTO> findPagedHousesByDongCode(String dongCode, int page, int pageSize) {
-        List<HouseDongSearchDTO> houseList = houseInfoMapper.getHouseInfosByDongCode(dongCode);
-        int totalRecords = houseList.size();
-        int startIndex = (page - 1) * pageSize;
-        int endIndex = Math.min(startIndex + pageSize, totalRecords);
-        List<HouseDongSearchDTO> pagedList = houseList.subList(startIndex, endIndex);
-        return new PageDTO<>(pagedList, page, totalRecords, pageSize);
+        int totalRecords = houseInfoMapper.countHouseDealsByDongCode(dongCode);
+        int offset = (Math.max(page, 1) - 1) * pageSize;
+        List<HouseDongSearchDTO> pagedList = offset >= totalRecords
+                ? new ArrayList<>()
+                : houseInfoMapper.getPagedHouseInfosByDongCode(dongCode, offset, pageSize);
+        PageDTO<HouseDongSearchDTO> result = new PageDTO<>(pagedList, page, totalRecords, pageSize);
+        result.setTotalPages((totalRecords + pageSize - 1) / pageSize);
+        return result;
     }
 
     // 5. 여러 동 코드로 동 정보 리스트 조회
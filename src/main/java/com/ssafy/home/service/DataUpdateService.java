@@ -1,13 +1,17 @@
 package com.ssafy.home.service;
 
 import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.event.HouseDealsIngestedEvent;
 import com.ssafy.home.mapper.DataUpdateMapper;
+import com.ssafy.home.mapper.HouseDealsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,7 +21,19 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DataUpdateService {
     private final DataUpdateMapper dataUpdateMapper;
+    private final HouseDealsMapper houseDealsMapper;
+    private final LatestDealMaintainer latestDealMaintainer;
+    private final MonthlyStatsMaintainer monthlyStatsMaintainer;
     private final CacheManager cacheManager;
+    private final ApartmentSpatialIndex apartmentSpatialIndex;
+    private final LatestDealCache latestDealCache;
+    private final MarkerClusterService markerClusterService;
+    private final VectorTileService vectorTileService;
+    private final ViewportTileCache viewportTileCache;
+    private final RegionHierarchy regionHierarchy;
+    private final HeatmapService heatmapService;
+    private final DealColumnStore dealColumnStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 특정 지역+월의 실거래 데이터 조회
     public List<HouseDeal> getDealsByRegionAndMonth(String lawdCd, String dealYmd) {
@@ -34,6 +50,47 @@ public class DataUpdateService {
         return dataUpdateMapper.selectRecentDeals(limit);
     }
 
+    // 거래 1건 등록 + latest_housedeals/월간 집계 갱신
+    @Transactional
+    public void insertDeal(HouseDeal deal) {
+        houseDealsMapper.insertHouseDeal(deal);
+        latestDealMaintainer.apply(List.of(deal));
+        monthlyStatsMaintainer.apply(List.of(deal));
+        notifyDealsIngested(List.of(deal));
+    }
+
+    // 거래 일괄 등록 + latest_housedeals/월간 집계 갱신
+    @Transactional
+    public void insertDeals(List<HouseDeal> deals) {
+        if (deals.isEmpty()) {
+            return;
+        }
+        houseDealsMapper.insertHouseDeals(deals);
+        latestDealMaintainer.apply(deals);
+        monthlyStatsMaintainer.apply(deals);
+        notifyDealsIngested(deals);
+    }
+
+    // houseinfos 변경 후 메모리 인덱스 재생성
+    public void refreshHouseIndexes() {
+        apartmentSpatialIndex.rebuild();
+        latestDealCache.reload();
+        markerClusterService.rebuild();
+        vectorTileService.invalidateAll();
+        viewportTileCache.invalidateAll();
+        regionHierarchy.reload();
+        heatmapService.invalidateAll();
+        dealColumnStore.load();
+    }
+
+    // 새 거래 적재 후 호출 - 메모리 캐시/집계 증분 갱신 (트랜잭션 안이면 커밋 후 반영)
+    public void notifyDealsIngested(List<HouseDeal> deals) {
+        if (deals == null || deals.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new HouseDealsIngestedEvent(deals));
+    }
+
     // 캐시 초기화
     public void clearCache() {
         for (String cacheName : cacheManager.getCacheNames()) {
@@ -42,5 +99,6 @@ public class DataUpdateService {
                 cache.clear();
             }
         }
+        viewportTileCache.invalidateAll();
     }
 }
@@ -0,0 +1,141 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.event.DealColumnsChangedEvent;
+import com.ssafy.home.event.HouseDealsIngestedEvent;
+import com.ssafy.home.mapper.HouseDealsMapper;
+import com.ssafy.home.mapper.HouseInfoMapper;
+import com.ssafy.home.util.DealColumns;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * housedeals 전체를 열 지향 배열(DealColumns)로 올려 둔 분석용 저장소
+ * - 시작 시 1회 스트리밍 적재, 이후 거래 적재 이벤트로 뒤에 추가
+ * - 통계 조회는 현재 스냅샷을 받아 배열을 직접 훑는다
+ * - 스냅샷이 바뀌면 잠금 안에서 DealColumnsChangedEvent 발행 (파생 집계가 빠짐/중복 없이 따라온다)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DealColumnStore {
+
+    private final HouseDealsMapper houseDealsMapper;
+    private final HouseInfoMapper houseInfoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile DealColumns columns;
+    // aptSeq -> 법정동 코드 (sgg_cd + umd_cd)
+    private volatile Map<String, String> dongCodes = new HashMap<>();
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        load();
+    }
+
+    public synchronized void load() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<String, String> nextDongCodes = new HashMap<>();
+            for (HouseInfo info : houseInfoMapper.getAllHouseInfo()) {
+                nextDongCodes.put(info.getAptSeq(), dongCodeOf(info));
+            }
+            dongCodes = nextDongCodes;
+
+            DealColumns.Builder builder = DealColumns.builder();
+            int[] skipped = new int[1];
+            houseDealsMapper.scanDealsForAnalytics(context -> {
+                if (!add(builder, context.getResultObject(), false)) {
+                    skipped[0]++;
+                }
+            });
+            columns = builder.build();
+            eventPublisher.publishEvent(new DealColumnsChangedEvent(columns, null));
+            log.info("거래 열 저장소 적재 완료 - {}건 (제외 {}건), 아파트 {}곳, {}ms",
+                    columns.size(), skipped[0], columns.aptCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("거래 열 저장소 적재 실패 - 기존 데이터 유지", e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return columns != null;
+    }
+
+    // 현재 스냅샷 (적재 전이면 null)
+    public DealColumns columns() {
+        return columns;
+    }
+
+    // 적재 트랜잭션이 커밋된 뒤 새 거래를 뒤에 추가
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDealsIngested(HouseDealsIngestedEvent event) {
+        DealColumns current = columns;
+        if (current == null) {
+            return;
+        }
+        DealColumns.Builder rows = DealColumns.builder();
+        for (HouseDeal deal : event.getDeals()) {
+            add(rows, deal, true);
+        }
+        columns = current.append(rows);
+        if (rows.size() > 0) {
+            eventPublisher.publishEvent(new DealColumnsChangedEvent(columns, rows.build()));
+        }
+    }
+
+    // lookupMissing: 사전에 없는 아파트를 DB 에서 찾을지 (스트리밍 적재 중에는 같은 연결을 쓸 수 없어 false)
+    private boolean add(DealColumns.Builder builder, HouseDeal deal, boolean lookupMissing) {
+        if (deal == null || deal.getAptSeq() == null) {
+            return false;
+        }
+        long price = deal.getPrice();
+        if (price < 0 || price > Integer.MAX_VALUE || deal.getDealYear() <= 0) {
+            return false;
+        }
+        builder.add(deal.getAptSeq(), dongCodeOf(deal.getAptSeq(), lookupMissing),
+                deal.getDealYear() * 100 + deal.getDealMonth(), deal.getDealDay(),
+                (int) price, (float) deal.getExcluUseAr(), parseFloor(deal.getFloor()));
+        return true;
+    }
+
+    // 적재 시점에 없던 아파트는 houseinfos 에서 한 번 찾아 둔다
+    private String dongCodeOf(String aptSeq, boolean lookupMissing) {
+        String dongCode = dongCodes.get(aptSeq);
+        if (dongCode == null && lookupMissing) {
+            dongCode = houseInfoMapper.selectByAptSeq(aptSeq).map(DealColumnStore::dongCodeOf).orElse("");
+            dongCodes.put(aptSeq, dongCode);
+        }
+        return dongCode == null ? "" : dongCode;
+    }
+
+    private static String dongCodeOf(HouseInfo info) {
+        if (info.getSggCd() == null || info.getUmdCd() == null) {
+            return "";
+        }
+        return info.getSggCd() + info.getUmdCd();
+    }
+
+    private static int parseFloor(String floor) {
+        if (floor == null) {
+            return DealColumns.NO_FLOOR;
+        }
+        try {
+            int value = Integer.parseInt(floor.trim());
+            return value < Short.MIN_VALUE + 1 || value > Short.MAX_VALUE ? DealColumns.NO_FLOOR : value;
+        } catch (NumberFormatException e) {
+            return DealColumns.NO_FLOOR;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.event.DealColumnsChangedEvent;
+import com.ssafy.home.util.ComplexSketches;
+import com.ssafy.home.util.DealColumns;
+import com.ssafy.home.util.DealCube;
+import com.ssafy.home.util.PriceSketches;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지역 x 년월 x 평형 거래가 큐브 + 지역 x 년월 분위수/단지 수 스케치 관리 (StatisticsService 지역/평형 통계용)
+ * - 열 저장소 스냅샷이 통째로 바뀌면 백그라운드에서 큐브/스케치 재생성
+ * - 거래가 추가되면 증분을 모아 두었다가 DRAIN_DELAY 뒤 한 번에 합친다
+ * - 재생성/증분 반영은 단일 작업 스레드에서 순서대로 실행 (조회 스레드는 막지 않음)
+ */
+@Component
+@Slf4j
+public class DealCubeService {
+    private static final long DRAIN_DELAY_MILLIS = 5_000L;
+
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "deal-cube");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile DealCube cube;
+    private volatile PriceSketches sketches;
+    private volatile ComplexSketches complexSketches;
+    // 아직 큐브에 합치지 않은 추가 거래 스냅샷
+    private final List<DealColumns> pending = new ArrayList<>();
+    private boolean drainScheduled;
+
+    // 현재 큐브 (아직 만들어지지 않았으면 null)
+    public DealCube cube() {
+        return cube;
+    }
+
+    // 현재 분위수 스케치 (아직 만들어지지 않았으면 null)
+    public PriceSketches sketches() {
+        return sketches;
+    }
+
+    // 현재 거래 단지 수 스케치 (아직 만들어지지 않았으면 null)
+    public ComplexSketches complexSketches() {
+        return complexSketches;
+    }
+
+    /**
+     * 열 저장소 잠금 안에서 호출되므로 작업만 넘기고 바로 반환한다
+     * - 재적재: 그 전까지 모인 증분은 새 스냅샷에 이미 들어 있어 버린다
+     */
+    @EventListener
+    public synchronized void onDealColumnsChanged(DealColumnsChangedEvent event) {
+        if (event.isReloaded()) {
+            pending.clear();
+            DealColumns columns = event.getColumns();
+            worker.execute(() -> rebuild(columns));
+            return;
+        }
+        pending.add(event.getAppended());
+        if (!drainScheduled) {
+            drainScheduled = true;
+            worker.schedule(this::drain, DRAIN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuild(DealColumns columns) {
+        try {
+            long start = System.currentTimeMillis();
+            DealCube next = DealCube.build(columns);
+            PriceSketches nextSketches = PriceSketches.build(columns);
+            ComplexSketches nextComplexSketches = ComplexSketches.build(columns);
+            cube = next;
+            sketches = nextSketches;
+            complexSketches = nextComplexSketches;
+            log.info("거래 큐브 생성 완료 - 거래 {}건, 지역 {}곳, 분위수 스케치 {}개, 단지 수 스케치 {}개, {}ms", columns.size(),
+                    next.regionCount(), nextSketches.sketchCount(), nextComplexSketches.sketchCount(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("거래 큐브 생성 실패 - 기존 큐브 유지", e);
+        }
+    }
+
+    private void drain() {
+        List<DealColumns> batch;
+        synchronized (this) {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            drainScheduled = false;
+        }
+        DealCube current = cube;
+        PriceSketches currentSketches = sketches;
+        ComplexSketches currentComplexSketches = complexSketches;
+        if (current == null || currentSketches == null || currentComplexSketches == null || batch.isEmpty()) {
+            return;
+        }
+        try {
+            int deals = 0;
+            for (DealColumns appended : batch) {
+                current.merge(DealCube.build(appended));
+                currentSketches.merge(PriceSketches.build(appended));
+                currentComplexSketches.merge(ComplexSketches.build(appended));
+                deals += appended.size();
+            }
+            log.debug("거래 큐브 증분 반영 - {}건", deals);
+        } catch (Exception e) {
+            log.error("거래 큐브 증분 반영 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,319 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.dto.IngestionReport;
+import com.ssafy.home.mapper.HouseDealsMapper;
+import com.ssafy.home.mapper.HouseInfoMapper;
+import com.ssafy.home.util.MolitDealXmlParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 국토교통부 실거래가 적재 (flask/housedealCrawler 대체)
+ * - 시군구별 작업자가 병렬로 전체 페이지를 받아 StAX 로 파싱
+ * - houseinfos 에 없는 아파트는 FK 를 끄지 않고 건너뛴다
+ *   (aptSeq 가 없는 예전 한글 태그 응답은 법정동+지번, 없으면 법정동+아파트명으로 houseinfos 에서 찾는다)
+ * - 같은 시군구/월의 기존 거래와 비교해 새 거래만 넣으므로 같은 달을 다시 돌려도 중복되지 않는다
+ *   (실제로 같은 조건 거래가 여러 건일 수 있어 유일 키를 걸 수 없으므로, 비교~적재를 시군구/월 잠금 안에서 한다)
+ * - 적재는 DataUpdateService.insertDeals 로 묶음 단위 다중 행 INSERT
+ *   (latest_housedeals 갱신과 HouseDealsIngestedEvent 로 메모리 캐시/집계가 함께 갱신된다)
+ */
+@Service
+@Slf4j
+public class DealIngestionService {
+    static final int PAGE_SIZE = 1000;
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int MAX_PAGES = 1000;
+
+    private final MolitDealSource dealSource;
+    private final HouseInfoMapper houseInfoMapper;
+    private final HouseDealsMapper houseDealsMapper;
+    private final DataUpdateService dataUpdateService;
+    private final int workers;
+    // 시군구/월 ("11680:202405") 별 적재 잠금 - 동시 요청이 같은 달을 겹쳐 넣지 않도록
+    private final Map<String, Object> regionLocks = new ConcurrentHashMap<>();
+
+    public DealIngestionService(MolitDealSource dealSource,
+                                HouseInfoMapper houseInfoMapper,
+                                HouseDealsMapper houseDealsMapper,
+                                DataUpdateService dataUpdateService,
+                                @Value("${molit.ingest-workers:4}") int workers) {
+        this.dealSource = dealSource;
+        this.houseInfoMapper = houseInfoMapper;
+        this.houseDealsMapper = houseDealsMapper;
+        this.dataUpdateService = dataUpdateService;
+        this.workers = Math.max(1, workers);
+    }
+
+    /**
+     * 한 달치 거래 적재
+     *
+     * @param dealYmd 거래연월 (YYYYMM)
+     * @param lawdCds 시군구 코드 5자리 목록, 비어 있으면 아파트가 있는 전체 시군구
+     */
+    public IngestionReport ingestMonth(String dealYmd, List<String> lawdCds) {
+        if (dealYmd == null || !dealYmd.matches("\\d{6}")) {
+            throw new IllegalArgumentException("거래연월은 YYYYMM 형식이어야 합니다: " + dealYmd);
+        }
+        List<String> regions = lawdCds == null || lawdCds.isEmpty() ? houseInfoMapper.findAllSggCds() : regionsOf(lawdCds);
+        long start = System.currentTimeMillis();
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, regions.size())));
+        List<Future<RegionResult>> futures = new ArrayList<>();
+        try {
+            for (String lawdCd : regions) {
+                futures.add(pool.submit(() -> ingestRegion(lawdCd, dealYmd)));
+            }
+
+            IngestionReport report = IngestionReport.builder()
+                    .dealYmd(dealYmd)
+                    .regions(regions.size())
+                    .failedRegions(new ArrayList<>())
+                    .build();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get().addTo(report);
+                } catch (ExecutionException e) {
+                    log.error("실거래가 적재 실패 - {} {}", regions.get(i), dealYmd, e.getCause());
+                    report.getFailedRegions().add(regions.get(i));
+                }
+            }
+            report.setElapsedMillis(System.currentTimeMillis() - start);
+            log.info("실거래가 적재 완료 - {} {}개 시군구, 수신 {}건, 적재 {}건, 중복 {}건, 미등록 아파트 {}건, 실패 {}곳, {}ms",
+                    dealYmd, regions.size(), report.getFetched(), report.getInserted(), report.getDuplicates(),
+                    report.getUnknownApartments(), report.getFailedRegions().size(), report.getElapsedMillis());
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("실거래가 적재가 중단되었습니다.", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청한 시군구 코드 목록 정리 (공백 제거, 중복 제거, 5자리 숫자가 아니면 IllegalArgumentException)
+     * - 같은 코드가 두 번 오면 두 작업자가 같은 달을 나눠 받게 되므로 하나로 합친다
+     */
+    static List<String> regionsOf(List<String> lawdCds) {
+        Set<String> regions = new LinkedHashSet<>();
+        for (String lawdCd : lawdCds) {
+            String code = lawdCd == null ? "" : lawdCd.trim();
+            if (!code.matches("\\d{5}")) {
+                throw new IllegalArgumentException("시군구 코드는 5자리 숫자여야 합니다: " + lawdCd);
+            }
+            regions.add(code);
+        }
+        return new ArrayList<>(regions);
+    }
+
+    // 시군구 하나: 수신 -> 검증 -> (잠금) 기존 거래와 비교 -> 새 거래만 적재
+    private RegionResult ingestRegion(String lawdCd, String dealYmd) throws Exception {
+        int dealYear = Integer.parseInt(dealYmd.substring(0, 4));
+        int dealMonth = Integer.parseInt(dealYmd.substring(4, 6));
+        RegionFetch fetch = fetchRegion(dealSource, lawdCd, dealYmd, PAGE_SIZE);
+
+        RegionResult result = new RegionResult();
+        result.fetched = fetch.deals.size();
+        result.cancelled = fetch.cancelled;
+
+        ApartmentKeys apartments = new ApartmentKeys(houseInfoMapper.findApartmentKeysBySggCd(lawdCd));
+        List<HouseDeal> valid = new ArrayList<>();
+        for (HouseDeal deal : fetch.deals) {
+            if (deal.getAptSeq() == null) {
+                deal.setAptSeq(apartments.resolve(deal));
+            }
+            if (deal.getAptSeq() == null || !apartments.contains(deal.getAptSeq())) {
+                result.unknownApartments++;
+            } else if (deal.getDealYear() != dealYear || deal.getDealMonth() != dealMonth
+                    || deal.getDealDay() <= 0 || deal.getPrice() < 0) {
+                result.invalid++;
+            } else {
+                valid.add(normalize(deal));
+            }
+        }
+
+        // 비교와 적재 사이에 다른 요청이 같은 달을 넣지 못하도록 시군구/월 단위로 직렬화
+        synchronized (regionLocks.computeIfAbsent(lawdCd + ":" + dealYmd, k -> new Object())) {
+            List<HouseDeal> fresh = newDeals(valid, houseDealsMapper.findDealsBySggAndMonth(lawdCd, dealYear, dealMonth));
+            result.duplicates = valid.size() - fresh.size();
+            for (int from = 0; from < fresh.size(); from += INSERT_CHUNK_SIZE) {
+                dataUpdateService.insertDeals(fresh.subList(from, Math.min(from + INSERT_CHUNK_SIZE, fresh.size())));
+            }
+            result.inserted = fresh.size();
+        }
+        log.debug("실거래가 적재 - {} {} 수신 {}건, 적재 {}건", lawdCd, dealYmd, result.fetched, result.inserted);
+        return result;
+    }
+
+    /**
+     * 시군구/월의 전체 페이지를 받아 파싱 (totalCount 만큼 읽을 때까지)
+     * - MAX_PAGES 를 다 읽고도 totalCount 에 못 미치면 일부만 적재되지 않도록 시군구를 실패로 처리한다
+     */
+    static RegionFetch fetchRegion(MolitDealSource source, String lawdCd, String dealYmd, int pageSize) throws Exception {
+        return fetchRegion(source, lawdCd, dealYmd, pageSize, MAX_PAGES);
+    }
+
+    static RegionFetch fetchRegion(MolitDealSource source, String lawdCd, String dealYmd, int pageSize,
+                                   int maxPages) throws Exception {
+        RegionFetch fetch = new RegionFetch();
+        int read = 0;
+        for (int pageNo = 1; pageNo <= maxPages; pageNo++) {
+            MolitDealXmlParser.Page page;
+            try (InputStream in = source.open(lawdCd, dealYmd, pageNo, pageSize)) {
+                page = MolitDealXmlParser.parse(in, fetch.deals::add);
+            }
+            if (!page.isSuccess()) {
+                throw new IllegalStateException("실거래가 API 오류 - " + page.getResultCode() + " " + page.getResultMsg()
+                        + " (" + lawdCd + ", " + dealYmd + ", " + pageNo + ")");
+            }
+            fetch.cancelled += page.getCancelled();
+            int rows = page.getItems() + page.getCancelled();
+            read += rows;
+            if (rows == 0 || read >= page.getTotalCount()) {
+                return fetch;
+            }
+            if (pageNo == maxPages) {
+                throw new IllegalStateException("실거래가 페이지 상한 초과 - " + maxPages + "페이지에서 " + read + "/"
+                        + page.getTotalCount() + "건만 수신 (" + lawdCd + ", " + dealYmd + ")");
+            }
+        }
+        return fetch;
+    }
+
+    /**
+     * 기존 거래에 없는 거래만 반환
+     * - 같은 조건의 거래가 실제로 여러 건일 수 있어 키별 건수로 비교한다 (기존 2건, 수신 3건이면 1건 적재)
+     */
+    static List<HouseDeal> newDeals(List<HouseDeal> incoming, List<HouseDeal> existing) {
+        Map<String, Integer> remaining = new HashMap<>();
+        for (HouseDeal deal : existing) {
+            remaining.merge(dealKey(deal), 1, Integer::sum);
+        }
+        List<HouseDeal> fresh = new ArrayList<>();
+        for (HouseDeal deal : incoming) {
+            String key = dealKey(deal);
+            Integer count = remaining.get(key);
+            if (count != null && count > 0) {
+                remaining.put(key, count - 1);
+            } else {
+                fresh.add(deal);
+            }
+        }
+        return fresh;
+    }
+
+    // 거래 동일성 키 (금액은 쉼표/공백 차이를 없애려 숫자로, 면적은 소수 둘째 자리까지)
+    static String dealKey(HouseDeal deal) {
+        return deal.getAptSeq()
+                + "|" + nullToEmpty(deal.getAptDong())
+                + "|" + nullToEmpty(deal.getFloor())
+                + "|" + deal.getDealYear() + "-" + deal.getDealMonth() + "-" + deal.getDealDay()
+                + "|" + Math.round(deal.getExcluUseAr() * 100)
+                + "|" + deal.getPrice();
+    }
+
+    // 컬럼 길이에 맞춰 자름 (floor varchar(3), apt_dong varchar(40), deal_amount varchar(10))
+    private static HouseDeal normalize(HouseDeal deal) {
+        deal.setFloor(truncate(deal.getFloor(), 3));
+        deal.setAptDong(truncate(deal.getAptDong(), 40));
+        deal.setDealAmount(truncate(deal.getDealAmount().trim(), 10));
+        return deal;
+    }
+
+    private static String truncate(String value, int max) {
+        return value == null || value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * 한 시군구의 아파트 코드 + aptSeq 없는 거래용 (법정동, 지번) / (법정동, 아파트명) -> aptSeq
+     * - 같은 키에 아파트가 여러 곳이면 어느 쪽인지 알 수 없어 찾지 않는다
+     */
+    static final class ApartmentKeys {
+        private final Set<String> aptSeqs = new HashSet<>();
+        private final Map<String, String> byJibun = new HashMap<>();
+        private final Map<String, String> byName = new HashMap<>();
+
+        ApartmentKeys(List<HouseInfo> infos) {
+            Set<String> ambiguousJibun = new HashSet<>();
+            Set<String> ambiguousName = new HashSet<>();
+            for (HouseInfo info : infos) {
+                aptSeqs.add(info.getAptSeq());
+                put(byJibun, key(info.getUmdNm(), info.getJibun()), info.getAptSeq(), ambiguousJibun);
+                put(byName, key(info.getUmdNm(), info.getAptNm()), info.getAptSeq(), ambiguousName);
+            }
+        }
+
+        boolean contains(String aptSeq) {
+            return aptSeqs.contains(aptSeq);
+        }
+
+        // 찾지 못하면 null
+        String resolve(HouseDeal deal) {
+            String aptSeq = byJibun.get(key(deal.getUmdNm(), deal.getJibun()));
+            return aptSeq != null ? aptSeq : byName.get(key(deal.getUmdNm(), deal.getAptNm()));
+        }
+
+        private static void put(Map<String, String> map, String key, String aptSeq, Set<String> ambiguous) {
+            if (key == null || ambiguous.contains(key)) {
+                return;
+            }
+            String previous = map.putIfAbsent(key, aptSeq);
+            if (previous != null && !previous.equals(aptSeq)) {
+                map.remove(key);
+                ambiguous.add(key);
+            }
+        }
+
+        private static String key(String umdNm, String value) {
+            if (umdNm == null || value == null || umdNm.isBlank() || value.isBlank()) {
+                return null;
+            }
+            return umdNm.trim() + "|" + value.trim();
+        }
+    }
+
+    // 한 시군구의 수신 결과
+    static final class RegionFetch {
+        final List<HouseDeal> deals = new ArrayList<>();
+        int cancelled;
+    }
+
+    private static final class RegionResult {
+        private int fetched;
+        private int cancelled;
+        private int duplicates;
+        private int unknownApartments;
+        private int invalid;
+        private int inserted;
+
+        private void addTo(IngestionReport report) {
+            report.setFetched(report.getFetched() + fetched);
+            report.setCancelled(report.getCancelled() + cancelled);
+            report.setDuplicates(report.getDuplicates() + duplicates);
+            report.setUnknownApartments(report.getUnknownApartments() + unknownApartments);
+            report.setInvalid(report.getInvalid() + invalid);
+            report.setInserted(report.getInserted() + inserted);
+        }
+    }
+}
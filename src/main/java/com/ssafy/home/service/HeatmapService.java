@@ -0,0 +1,213 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.dto.HeatmapCell;
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.util.LruCache;
+import com.ssafy.home.util.TileMath;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 가격 히트맵 격자 집계
+ * - 줌별 cellPixels 크기의 Web Mercator 격자로 메모리 아파트 전체를 병렬 분류
+ * - 셀마다 아파트 수, 최신 거래 ㎡당 가격의 평균/중앙값을 primitive 배열로 계산
+ * - 격자는 (줌, 셀 크기) 별로 캐시하고 최신 거래가 바뀌면 비운다
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HeatmapService {
+    public static final int MIN_CELL_PIXELS = 16;
+    public static final int MAX_CELL_PIXELS = 256;
+    private static final int MAX_ZOOM = 18;
+
+    private final ApartmentSpatialIndex apartmentSpatialIndex;
+    private final LatestDealCache latestDealCache;
+
+    private final LruCache<String, Grid> grids = new LruCache<>(64);
+
+    /**
+     * 영역 내 히트맵 셀 조회
+     *
+     * @param zoom       Web Mercator 줌
+     * @param cellPixels 셀 한 변의 화면 픽셀 수 (MIN_CELL_PIXELS~MAX_CELL_PIXELS)
+     */
+    public List<HeatmapCell> getHeatmap(double swLat, double swLng, double neLat, double neLng,
+                                        int zoom, int cellPixels) {
+        int z = Math.max(0, Math.min(MAX_ZOOM, zoom));
+        int pixels = Math.max(MIN_CELL_PIXELS, Math.min(MAX_CELL_PIXELS, cellPixels));
+        List<HeatmapCell> result = new ArrayList<>();
+        Grid grid = grids.computeIfAbsent(z + "/" + pixels, key -> build(z, pixels));
+        if (grid == null) {
+            return result;
+        }
+
+        long cx0 = (long) Math.floor(TileMath.lngToWorldX(swLng, z) / pixels);
+        long cx1 = (long) Math.floor(TileMath.lngToWorldX(neLng, z) / pixels);
+        long cy0 = (long) Math.floor(TileMath.latToWorldY(neLat, z) / pixels);
+        long cy1 = (long) Math.floor(TileMath.latToWorldY(swLat, z) / pixels);
+        // 키가 (cx, cy) 순으로 정렬되어 있어 열마다 cy 범위를 이진 탐색
+        for (long cx = cx0; cx <= cx1; cx++) {
+            int from = lowerBound(grid.keys, key(cx, cy0));
+            for (int c = from; c < grid.keys.length && grid.keys[c] <= key(cx, cy1); c++) {
+                result.add(grid.toCell(c, z, pixels));
+            }
+        }
+        return result;
+    }
+
+    public void invalidateAll() {
+        grids.clear();
+    }
+
+    // 최신 거래가 바뀌면 모든 줌의 가격 집계가 달라질 수 있다
+    @EventListener
+    public void onLatestDealsChanged(LatestDealsChangedEvent event) {
+        invalidateAll();
+    }
+
+    private Grid build(int zoom, int pixels) {
+        ApartmentSpatialIndex.Snapshot snapshot = apartmentSpatialIndex.snapshot();
+        if (snapshot == null) {
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        int n = snapshot.size();
+
+        // 1) 아파트별 셀 키와 ㎡당 가격 (병렬)
+        long[] aptKeys = new long[n];
+        double[] aptPrices = new double[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            long cx = (long) Math.floor(TileMath.lngToWorldX(snapshot.lng(i), zoom) / pixels);
+            long cy = (long) Math.floor(TileMath.latToWorldY(snapshot.lat(i), zoom) / pixels);
+            aptKeys[i] = key(cx, cy);
+            aptPrices[i] = pricePerM2(latestDealCache.get(snapshot.apartment(i).getAptSeq()));
+        });
+
+        // 2) 셀 키 정렬/중복 제거 후 아파트를 셀 번호로 변환
+        long[] sorted = aptKeys.clone();
+        Arrays.parallelSort(sorted);
+        int cells = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[cells++] = sorted[i];
+            }
+        }
+        long[] keys = Arrays.copyOf(sorted, cells);
+        int[] cellOf = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> cellOf[i] = Arrays.binarySearch(keys, aptKeys[i]));
+
+        // 3) 셀별로 가격을 연속 구간에 모은다 (counting sort)
+        int[] counts = new int[cells];
+        int[] priceOffsets = new int[cells + 1];
+        for (int i = 0; i < n; i++) {
+            counts[cellOf[i]]++;
+            if (!Double.isNaN(aptPrices[i])) {
+                priceOffsets[cellOf[i] + 1]++;
+            }
+        }
+        for (int c = 0; c < cells; c++) {
+            priceOffsets[c + 1] += priceOffsets[c];
+        }
+        double[] prices = new double[priceOffsets[cells]];
+        int[] cursor = Arrays.copyOf(priceOffsets, cells);
+        for (int i = 0; i < n; i++) {
+            if (!Double.isNaN(aptPrices[i])) {
+                prices[cursor[cellOf[i]]++] = aptPrices[i];
+            }
+        }
+
+        // 4) 셀별 평균/중앙값 (병렬)
+        double[] averages = new double[cells];
+        double[] medians = new double[cells];
+        IntStream.range(0, cells).parallel().forEach(c -> {
+            int from = priceOffsets[c];
+            int to = priceOffsets[c + 1];
+            if (from == to) {
+                averages[c] = Double.NaN;
+                medians[c] = Double.NaN;
+                return;
+            }
+            Arrays.sort(prices, from, to);
+            double sum = 0;
+            for (int k = from; k < to; k++) {
+                sum += prices[k];
+            }
+            averages[c] = sum / (to - from);
+            int mid = from + (to - from) / 2;
+            medians[c] = (to - from) % 2 == 1 ? prices[mid] : (prices[mid - 1] + prices[mid]) / 2;
+        });
+
+        log.info("히트맵 격자 빌드 완료 - 줌 {}, 셀 {}px, {}셀, {}ms",
+                zoom, pixels, cells, System.currentTimeMillis() - start);
+        return new Grid(keys, counts, averages, medians);
+    }
+
+    // 최신 거래의 ㎡당 가격(만원), 계산할 수 없으면 NaN
+    private static double pricePerM2(HouseDeal deal) {
+        if (deal == null || deal.getExcluUseAr() <= 0) {
+            return Double.NaN;
+        }
+        long price = deal.getPrice();
+        return price < 0 ? Double.NaN : price / deal.getExcluUseAr();
+    }
+
+    private static long key(long cx, long cy) {
+        return (cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private static int lowerBound(long[] values, long value) {
+        int lo = 0;
+        int hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // 한 (줌, 셀 크기) 의 집계 결과 (불변)
+    private static final class Grid {
+        private final long[] keys;
+        private final int[] counts;
+        private final double[] averages;
+        private final double[] medians;
+
+        private Grid(long[] keys, int[] counts, double[] averages, double[] medians) {
+            this.keys = keys;
+            this.counts = counts;
+            this.averages = averages;
+            this.medians = medians;
+        }
+
+        private HeatmapCell toCell(int c, int zoom, int pixels) {
+            long cx = keys[c] >> 32;
+            long cy = (int) keys[c];
+            return HeatmapCell.builder()
+                    .west(TileMath.worldXToLng((double) cx * pixels, zoom))
+                    .east(TileMath.worldXToLng((double) (cx + 1) * pixels, zoom))
+                    .north(TileMath.worldYToLat((double) cy * pixels, zoom))
+                    .south(TileMath.worldYToLat((double) (cy + 1) * pixels, zoom))
+                    .count(counts[c])
+                    .avgPricePerM2(round(averages[c]))
+                    .medianPricePerM2(round(medians[c]))
+                    .build();
+        }
+
+        private static Double round(double value) {
+            return Double.isNaN(value) ? null : Math.round(value * 10) / 10.0;
+        }
+    }
+}
@@ -1,38 +1,169 @@
 package com.ssafy.home.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.home.domain.DongCode;
 import com.ssafy.home.domain.HouseDeal;
 import com.ssafy.home.domain.HouseInfo;
 import com.ssafy.home.dto.ApartmentWithLatestDeal;
 import com.ssafy.home.mapper.HouseInfoMapper;
 import com.ssafy.home.mapper.HouseMapper;
+import com.ssafy.home.util.Polygon;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class HouseService {
+    private static final int STREAM_FLUSH_ROWS = 200;
 
     private final HouseMapper houseMapper;
     private final HouseInfoMapper houseInfoMapper;
-
-    // 지도 영역 내 아파트 + 최신 거래 정보 반환
+    private final ApartmentSpatialIndex apartmentSpatialIndex;
+    private final MarkerClusterService markerClusterService;
+    private final ViewportTileCache viewportTileCache;
+    private final RegionHierarchy regionHierarchy;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 지도 영역 내 아파트 + 최신 거래 정보 반환 (타일 캐시 경유)
     public List<ApartmentWithLatestDeal> getApartmentsInBounds(double swLat, double swLng, double neLat, double neLng) {
-        List<HouseInfo> apartments = houseMapper.findApartmentsInBounds(swLat, swLng, neLat, neLng);
-        List<ApartmentWithLatestDeal> result = new java.util.ArrayList<>();
+        return viewportTileCache.query(ViewportTileCache.LAYER_APARTMENTS, swLat, swLng, neLat, neLng,
+                this::loadApartmentsInBounds,
+                apt -> coordinate(apt.getLatitude()),
+                apt -> coordinate(apt.getLongitude()));
+    }
+
+    private List<ApartmentWithLatestDeal> loadApartmentsInBounds(double swLat, double swLng, double neLat, double neLng) {
+        // 공간 인덱스가 준비되지 않았으면 DB 조회로 대체
+        List<HouseInfo> apartments = apartmentSpatialIndex.isReady()
+                ? apartmentSpatialIndex.findInBounds(swLat, swLng, neLat, neLng)
+                : houseMapper.findApartmentsInBounds(swLat, swLng, neLat, neLng);
+        Map<String, HouseDeal> latestDeals = findLatestDeals(apartments);
+        List<ApartmentWithLatestDeal> result = new java.util.ArrayList<>(apartments.size());
         for (HouseInfo apt : apartments) {
-            List<HouseDeal> deals = houseMapper.findDealsByAptSeq(apt.getAptSeq());
-            HouseDeal latestDeal = deals.isEmpty() ? null : deals.get(0);
-            ApartmentWithLatestDeal dto = ApartmentWithLatestDeal.from(apt, latestDeal);
-            result.add(dto);
+            result.add(ApartmentWithLatestDeal.from(apt, latestDeals.get(apt.getAptSeq())));
+        }
+        return result;
+    }
+
+    /**
+     * 이전 뷰포트 대비 새로 들어온/빠진 아파트만 반환
+     * - 두 영역의 직사각형 차집합을 공간 인덱스에서 검색
+     * - 이전 영역을 알 수 없거나 인덱스가 다시 빌드되었으면 전체 목록(type=full)을 반환
+     *
+     * @param previous 이전 영역 (null 이면 token 으로 복원)
+     * @param token    이전 응답의 token
+     */
+    public Map<String, Object> getApartmentsDelta(ApartmentSpatialIndex.Bounds current,
+                                                  ApartmentSpatialIndex.Bounds previous, String token) {
+        Map<String, Object> result = new HashMap<>();
+        ApartmentSpatialIndex.Snapshot snapshot = apartmentSpatialIndex.snapshot();
+        if (snapshot != null) {
+            result.put("token", viewportToken(current, snapshot));
+            if (previous == null) {
+                previous = parseViewportToken(token, snapshot);
+            }
+        }
+        if (snapshot == null || previous == null) {
+            result.put("type", "full");
+            result.put("added", getApartmentsInBounds(
+                    current.getSwLat(), current.getSwLng(), current.getNeLat(), current.getNeLng()));
+            result.put("removed", List.of());
+            return result;
+        }
+
+        List<HouseInfo> entering = apartmentSpatialIndex.findInDifference(snapshot, current, previous);
+        Map<String, HouseDeal> latestDeals = findLatestDeals(entering);
+        List<ApartmentWithLatestDeal> added = new java.util.ArrayList<>(entering.size());
+        for (HouseInfo apt : entering) {
+            added.add(ApartmentWithLatestDeal.from(apt, latestDeals.get(apt.getAptSeq())));
+        }
+        List<String> removed = new java.util.ArrayList<>();
+        for (HouseInfo apt : apartmentSpatialIndex.findInDifference(snapshot, previous, current)) {
+            removed.add(apt.getAptSeq());
+        }
+        result.put("type", "delta");
+        result.put("added", added);
+        result.put("removed", removed);
+        return result;
+    }
+
+    // 뷰포트 토큰: "swLat,swLng,neLat,neLng,인덱스세대"
+    private static String viewportToken(ApartmentSpatialIndex.Bounds bounds, ApartmentSpatialIndex.Snapshot snapshot) {
+        return bounds.getSwLat() + "," + bounds.getSwLng() + "," + bounds.getNeLat() + "," + bounds.getNeLng()
+                + "," + snapshot.generation();
+    }
+
+    // 토큰이 없거나 잘못되었거나 다른 세대의 인덱스에서 발급되었으면 null
+    private static ApartmentSpatialIndex.Bounds parseViewportToken(String token, ApartmentSpatialIndex.Snapshot snapshot) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String[] parts = token.split(",");
+        if (parts.length != 5) {
+            return null;
+        }
+        try {
+            if (Long.parseLong(parts[4]) != snapshot.generation()) {
+                return null;
+            }
+            return new ApartmentSpatialIndex.Bounds(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+                    Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 아파트 목록의 최신 거래를 한 번에 조회 (aptSeq -> 최신 거래)
+    private Map<String, HouseDeal> findLatestDeals(List<HouseInfo> apartments) {
+        Map<String, HouseDeal> latestDeals = new HashMap<>();
+        if (apartments.isEmpty()) {
+            return latestDeals;
+        }
+        List<String> aptSeqs = new java.util.ArrayList<>(apartments.size());
+        for (HouseInfo apt : apartments) {
+            aptSeqs.add(apt.getAptSeq());
+        }
+        for (HouseDeal deal : houseMapper.findLatestDealsByAptSeqs(aptSeqs)) {
+            latestDeals.put(deal.getAptSeq(), deal);
+        }
+        return latestDeals;
+    }
+
+    /**
+     * 줌 레벨에 따른 마커 조회
+     * - 영역 내 아파트가 maxMarkers 이하면 개별 아파트, 초과하면 클러스터 반환
+     *
+     * @param zoom       Web Mercator 줌
+     * @param maxMarkers 개별 마커로 내려줄 최대 아파트 수
+     */
+    public Map<String, Object> getMarkers(double swLat, double swLng, double neLat, double neLng,
+                                          int zoom, int maxMarkers) {
+        Map<String, Object> result = new HashMap<>();
+        if (markerClusterService.isReady()
+                && apartmentSpatialIndex.countInBounds(swLat, swLng, neLat, neLng) > maxMarkers) {
+            result.put("type", "cluster");
+            result.put("data", markerClusterService.findClusters(swLat, swLng, neLat, neLng, zoom));
+        } else {
+            result.put("type", "apartment");
+            result.put("data", getApartmentsInBounds(swLat, swLng, neLat, neLng));
         }
         return result;
     }
@@ -80,20 +211,144 @@ public class HouseService {
      * @param lat    위도
      * @param lng    경도
      * @param radius 반경(미터)
+     * @param k      가까운 순 최대 개수 (null 이면 반경 내 전체)
      * @return 검색된 아파트 정보와 개수
      */
-    public Map<String, Object> getNearbyApartments(double lat, double lng, int radius) {
+    public Map<String, Object> getNearbyApartments(double lat, double lng, int radius, Integer k) {
+        Map<String, Object> result = new HashMap<>();
+
+        // k 가 있으면 가까운 k 개만 거리 + 최신 거래와 함께 (공간 인덱스가 준비되지 않았으면 DB 조회로 대체)
+        if (k != null) {
+            List<ApartmentSpatialIndex.Nearby> nearest = apartmentSpatialIndex.isReady()
+                    ? apartmentSpatialIndex.findNearest(lat, lng, k, radius)
+                    : findNearestFromDb(lat, lng, radius, k);
+            List<HouseInfo> apartments = new java.util.ArrayList<>(nearest.size());
+            for (ApartmentSpatialIndex.Nearby nearby : nearest) {
+                apartments.add(nearby.getApartment());
+            }
+            Map<String, HouseDeal> latestDeals = findLatestDeals(apartments);
+            List<ApartmentWithLatestDeal> data = new java.util.ArrayList<>(nearest.size());
+            for (ApartmentSpatialIndex.Nearby nearby : nearest) {
+                HouseInfo apt = nearby.getApartment();
+                ApartmentWithLatestDeal dto = ApartmentWithLatestDeal.from(apt, latestDeals.get(apt.getAptSeq()));
+                dto.setDistance((double) Math.round(nearby.getDistance()));
+                data.add(dto);
+            }
+            result.put("count", data.size());
+            result.put("apartments", data);
+            return result;
+        }
+
         // 위도/경도 기반으로 주변 아파트 검색
         List<HouseInfo> apartments = houseMapper.findApartmentsByLocation(lat, lng, radius);
 
-        // 결과를 담을 맵 생성
-        Map<String, Object> result = new HashMap<>();
         result.put("count", apartments.size());
         result.put("apartments", apartments);
 
         return result;
     }
 
+    // 반경 내 아파트를 DB 에서 가까운 순으로 읽어 앞의 k 개에 거리를 붙인다
+    private List<ApartmentSpatialIndex.Nearby> findNearestFromDb(double lat, double lng, int radius, int k) {
+        List<HouseInfo> apartments = houseMapper.findApartmentsByLocation(lat, lng, radius);
+        List<ApartmentSpatialIndex.Nearby> nearest = new java.util.ArrayList<>(Math.min(k, apartments.size()));
+        for (HouseInfo apt : apartments.subList(0, Math.min(k, apartments.size()))) {
+            double distance = ApartmentSpatialIndex.distanceMeters(lat, lng,
+                    coordinate(apt.getLatitude()), coordinate(apt.getLongitude()));
+            nearest.add(new ApartmentSpatialIndex.Nearby(apt, distance));
+        }
+        return nearest;
+    }
+
+    /**
+     * 지도 영역 내 아파트 + 최신 거래를 NDJSON 으로 한 행씩 전송
+     * - MyBatis Cursor 로 읽으므로 결과 크기와 무관하게 메모리 사용이 일정하다
+     */
+    public void streamApartmentsInBounds(double swLat, double swLng, double neLat, double neLng, OutputStream out) {
+        streamInTransaction(() -> houseMapper.streamApartmentsWithLatestDealInBounds(swLat, swLng, neLat, neLng), out);
+    }
+
+    /**
+     * 특정 아파트의 거래 내역을 NDJSON 으로 한 행씩 전송
+     */
+    public void streamApartmentDeals(String aptSeq, OutputStream out) {
+        streamInTransaction(() -> houseMapper.streamDealsByAptSeq(aptSeq), out);
+    }
+
+    // Cursor 는 연결이 열려 있는 동안만 읽을 수 있어 트랜잭션 안에서 전송까지 마친다
+    private <T> void streamInTransaction(Supplier<Cursor<T>> query, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Cursor<T> cursor = query.get()) {
+                writeNdjson(cursor, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * 다각형 내부 아파트 + 최신 거래를 NDJSON 으로 전송
+     * - 공간 인덱스로 외접 사각형 후보를 거른 뒤 점-다각형 판정
+     * - 최신 거래는 STREAM_FLUSH_ROWS 건씩 묶어 조회하며 바로 내보낸다
+     */
+    public void streamApartmentsInPolygon(Polygon polygon, OutputStream out) throws IOException {
+        List<HouseInfo> apartments = apartmentSpatialIndex.isReady()
+                ? apartmentSpatialIndex.findInPolygon(polygon)
+                : filterInPolygon(houseMapper.findApartmentsInBounds(
+                        polygon.minY(), polygon.minX(), polygon.maxY(), polygon.maxX()), polygon);
+
+        JsonGenerator generator = ndjsonGenerator(out);
+        for (int from = 0; from < apartments.size(); from += STREAM_FLUSH_ROWS) {
+            List<HouseInfo> chunk = apartments.subList(from, Math.min(from + STREAM_FLUSH_ROWS, apartments.size()));
+            Map<String, HouseDeal> latestDeals = findLatestDeals(chunk);
+            for (HouseInfo apt : chunk) {
+                generator.writeObject(ApartmentWithLatestDeal.from(apt, latestDeals.get(apt.getAptSeq())));
+            }
+            generator.flush();
+        }
+        finishNdjson(generator, !apartments.isEmpty());
+    }
+
+    private static List<HouseInfo> filterInPolygon(List<HouseInfo> candidates, Polygon polygon) {
+        List<HouseInfo> result = new java.util.ArrayList<>();
+        for (HouseInfo apt : candidates) {
+            double lat = coordinate(apt.getLatitude());
+            double lng = coordinate(apt.getLongitude());
+            if (polygon.contains(lng, lat)) {
+                result.add(apt);
+            }
+        }
+        return result;
+    }
+
+    private void writeNdjson(Iterable<?> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = ndjsonGenerator(out);
+        int written = 0;
+        for (Object row : rows) {
+            generator.writeObject(row);
+            // 첫 행은 바로, 이후에는 일정 행마다 내보내 쿼리가 끝나기 전에 응답이 시작되게 한다
+            if (++written % STREAM_FLUSH_ROWS == 1) {
+                generator.flush();
+            }
+        }
+        finishNdjson(generator, written > 0);
+    }
+
+    // 루트 값마다 줄바꿈으로 구분하는 JSON 생성기 (응답 스트림은 닫지 않음)
+    private JsonGenerator ndjsonGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        return generator;
+    }
+
+    private static void finishNdjson(JsonGenerator generator, boolean written) throws IOException {
+        if (written) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
     /**
      * 특정 아파트의 거래 내역 조회
      * 
@@ -139,19 +394,62 @@ public class HouseService {
     // 시도별 평균가격 조회
     public List<Map<String, Object>> getSidoAvgPriceInBounds(
             double swLat, double swLng, double neLat, double neLng) {
-        return houseMapper.findSidoAvgPriceInBounds(swLat, swLng, neLat, neLng);
+        if (regionHierarchy.isLoaded()) {
+            return regionHierarchy.findInBounds(RegionHierarchy.Level.SIDO, swLat, swLng, neLat, neLng);
+        }
+        return queryRegionTiles("sido", swLat, swLng, neLat, neLng,
+                houseMapper::findSidoAvgPriceInBounds, "sido_name");
     }
 
     // 구군별 평균가격 조회
     public List<Map<String, Object>> getGugunAvgPriceInBounds(
             double swLat, double swLng, double neLat, double neLng) {
-        return houseMapper.findGugunAvgPriceInBounds(swLat, swLng, neLat, neLng);
+        if (regionHierarchy.isLoaded()) {
+            return regionHierarchy.findInBounds(RegionHierarchy.Level.GUGUN, swLat, swLng, neLat, neLng);
+        }
+        return queryRegionTiles("gugun", swLat, swLng, neLat, neLng,
+                houseMapper::findGugunAvgPriceInBounds, "sido_name", "gugun_name");
     }
 
     // 동별 평균가격 조회 (기존 메서드명 변경)
     public List<Map<String, Object>> getDongAvgPriceInBounds(
             double swLat, double swLng, double neLat, double neLng) {
-        return houseMapper.findDongAvgPriceInBounds(swLat, swLng, neLat, neLng);
+        if (regionHierarchy.isLoaded()) {
+            return regionHierarchy.findInBounds(RegionHierarchy.Level.DONG, swLat, swLng, neLat, neLng);
+        }
+        return queryRegionTiles("dong", swLat, swLng, neLat, neLng,
+                houseMapper::findDongAvgPriceInBounds, "sido_name", "gugun_name", "dong_name");
+    }
+
+    // 지역 트리가 준비되지 않았을 때: 지역 평균가 조회를 타일 캐시로 처리하고 원래 쿼리의 정렬 순서로 맞춘다
+    private List<Map<String, Object>> queryRegionTiles(String layer, double swLat, double swLng, double neLat,
+                                                       double neLng, ViewportTileCache.TileLoader<Map<String, Object>> loader,
+                                                       String... orderColumns) {
+        List<Map<String, Object>> regions = viewportTileCache.query(layer, swLat, swLng, neLat, neLng, loader,
+                row -> coordinate(row.get("lat")),
+                row -> coordinate(row.get("lng")));
+        Comparator<Map<String, Object>> order = Comparator.comparing(row -> String.valueOf(row.get(orderColumns[0])));
+        for (int i = 1; i < orderColumns.length; i++) {
+            String column = orderColumns[i];
+            order = order.thenComparing(row -> String.valueOf(row.get(column)));
+        }
+        regions.sort(order);
+        return regions;
+    }
+
+    // 좌표 값(문자열/숫자)을 double 로, 없거나 잘못되면 NaN
+    private static double coordinate(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.toString());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
     }
 
     public Optional<HouseInfo> getHouseInfoByAptSeq(String aptSeq) {
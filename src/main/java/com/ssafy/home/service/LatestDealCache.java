@@ -0,0 +1,98 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.event.HouseDealsIngestedEvent;
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.mapper.HouseMapper;
+import com.ssafy.home.util.PriceUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아파트별 최신 거래 메모리 캐시 (aptSeq -> 최신 거래)
+ * - 시작 시 latest_housedeals 에서 적재
+ * - 거래 적재 이벤트를 받아 더 최신인 거래만 교체하고 LatestDealsChangedEvent 를 발행
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LatestDealCache {
+
+    private final HouseMapper houseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, HouseDeal> latestDeals = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<String, HouseDeal> next = new ConcurrentHashMap<>();
+            for (HouseDeal deal : houseMapper.findAllLatestDeals()) {
+                if (deal.getAptSeq() != null) {
+                    next.put(deal.getAptSeq(), deal);
+                }
+            }
+            latestDeals.keySet().retainAll(next.keySet());
+            latestDeals.putAll(next);
+            loaded = true;
+            log.info("최신 거래 캐시 적재 완료 - {}건, {}ms", next.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("최신 거래 캐시 적재 실패", e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public HouseDeal get(String aptSeq) {
+        return latestDeals.get(aptSeq);
+    }
+
+    // 최신 거래가(만원), 거래가 없으면 -1
+    public long latestPrice(String aptSeq) {
+        HouseDeal deal = latestDeals.get(aptSeq);
+        return deal == null ? -1 : deal.getPrice();
+    }
+
+    // 적재 트랜잭션이 커밋된 뒤에 반영 (트랜잭션 밖에서 발행되면 즉시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDealsIngested(HouseDealsIngestedEvent event) {
+        List<LatestDealsChangedEvent.Change> changes = new ArrayList<>();
+        for (HouseDeal deal : event.getDeals()) {
+            if (deal.getAptSeq() == null) {
+                continue;
+            }
+            HouseDeal previous = latestDeals.get(deal.getAptSeq());
+            if (previous == null || dealDate(deal) >= dealDate(previous)) {
+                latestDeals.put(deal.getAptSeq(), deal);
+                changes.add(new LatestDealsChangedEvent.Change(deal.getAptSeq(), previous, deal));
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new LatestDealsChangedEvent(changes));
+        }
+    }
+
+    private static int dealDate(HouseDeal deal) {
+        return PriceUtil.toDealDate(deal.getDealYear(), deal.getDealMonth(), deal.getDealDay());
+    }
+}
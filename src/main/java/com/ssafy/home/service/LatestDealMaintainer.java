@@ -0,0 +1,82 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.mapper.HouseDealsMapper;
+import com.ssafy.home.util.PriceUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * latest_housedeals 증분 유지
+ * - 새로 들어온 거래를 apt_seq 별 최신 1건으로 줄인 뒤
+ * - 현재 행을 잠그고 비교해 더 최신(같은 날 포함)인 것만 upsert
+ * - 바뀐 최신 거래만큼 지역 평균가(dong_code_superman)도 함께 갱신
+ * - housedeals 적재와 같은 트랜잭션에서 호출되어야 한다
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LatestDealMaintainer {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final HouseDealsMapper houseDealsMapper;
+    private final RegionPriceMaintainer regionPriceMaintainer;
+
+    /**
+     * @return latest_housedeals 에 실제로 반영된 거래 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<HouseDeal> apply(List<HouseDeal> deals) {
+        // apt_seq 별 가장 최신 거래만 남김 (apt_seq 순으로 잠가 동시 적재끼리 교착되지 않게)
+        Map<String, HouseDeal> newest = new TreeMap<>();
+        for (HouseDeal deal : deals) {
+            if (deal.getAptSeq() == null) {
+                continue;
+            }
+            newest.merge(deal.getAptSeq(), deal, (a, b) -> dealDate(b) >= dealDate(a) ? b : a);
+        }
+
+        List<HouseDeal> applied = new ArrayList<>();
+        List<LatestDealsChangedEvent.Change> changes = new ArrayList<>();
+        List<String> aptSeqs = new ArrayList<>(newest.keySet());
+        for (int from = 0; from < aptSeqs.size(); from += CHUNK_SIZE) {
+            List<String> chunk = aptSeqs.subList(from, Math.min(from + CHUNK_SIZE, aptSeqs.size()));
+
+            Map<String, HouseDeal> current = new HashMap<>();
+            for (HouseDeal row : houseDealsMapper.selectLatestDealsForUpdate(chunk)) {
+                current.put(row.getAptSeq(), row);
+            }
+
+            List<HouseDeal> upserts = new ArrayList<>();
+            for (String aptSeq : chunk) {
+                HouseDeal candidate = newest.get(aptSeq);
+                HouseDeal existing = current.get(aptSeq);
+                if (existing == null || dealDate(candidate) >= dealDate(existing)) {
+                    upserts.add(candidate);
+                    changes.add(new LatestDealsChangedEvent.Change(aptSeq, existing, candidate));
+                }
+            }
+            if (!upserts.isEmpty()) {
+                houseDealsMapper.upsertLatestDeals(upserts);
+                applied.addAll(upserts);
+            }
+        }
+        regionPriceMaintainer.apply(changes);
+        log.debug("latest_housedeals 갱신 - 입력 {}건, 반영 {}건", deals.size(), applied.size());
+        return applied;
+    }
+
+    private static int dealDate(HouseDeal deal) {
+        return PriceUtil.toDealDate(deal.getDealYear(), deal.getDealMonth(), deal.getDealDay());
+    }
+}
@@ -0,0 +1,268 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.dto.MarkerCluster;
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.util.PriceUtil;
+import com.ssafy.home.util.TileMath;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 줌 레벨별 격자 기반 아파트 마커 클러스터
+ * - 줌마다 CELL_PIXELS 크기의 Web Mercator 격자로 아파트를 묶어 미리 계산
+ * - 최신 거래가 바뀌면 해당 아파트가 속한 셀만 공간 인덱스로 다시 계산 (셀 재계산은 멱등)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MarkerClusterService {
+    public static final int MIN_ZOOM = 6;
+    public static final int MAX_ZOOM = 18;
+    private static final int CELL_PIXELS = 80;
+
+    private final ApartmentSpatialIndex apartmentSpatialIndex;
+    private final LatestDealCache latestDealCache;
+
+    private volatile Levels levels;
+
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return levels != null;
+    }
+
+    // 공간 인덱스 + 최신 거래 캐시로부터 전체 줌 레벨 재계산
+    public synchronized void rebuild() {
+        ApartmentSpatialIndex.Snapshot snapshot = apartmentSpatialIndex.snapshot();
+        if (snapshot == null) {
+            log.warn("공간 인덱스가 없어 클러스터를 만들 수 없습니다.");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<Map<Long, Cell>> cellsByZoom = new ArrayList<>();
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            Map<Long, Accumulator> accumulators = new HashMap<>();
+            for (int i = 0; i < snapshot.size(); i++) {
+                long key = cellKey(snapshot.lat(i), snapshot.lng(i), zoom);
+                accumulators.computeIfAbsent(key, k -> new Accumulator()).add(snapshot, i, latestDealCache);
+            }
+            Map<Long, Cell> cells = new ConcurrentHashMap<>(accumulators.size() * 2);
+            accumulators.forEach((key, acc) -> cells.put(key, acc.toCell(snapshot)));
+            cellsByZoom.add(cells);
+        }
+        levels = new Levels(snapshot, cellsByZoom);
+        log.info("마커 클러스터 빌드 완료 - 줌 {}~{}, {}ms", MIN_ZOOM, MAX_ZOOM, System.currentTimeMillis() - start);
+    }
+
+    // 최신 거래가 바뀐 아파트의 셀만 다시 계산
+    @Order(10)
+    @EventListener
+    public synchronized void onLatestDealsChanged(LatestDealsChangedEvent event) {
+        Levels current = levels;
+        if (current == null) {
+            return;
+        }
+        ApartmentSpatialIndex.Snapshot snapshot = current.snapshot;
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            Set<Long> dirty = new HashSet<>();
+            for (LatestDealsChangedEvent.Change change : event.getChanges()) {
+                int i = snapshot.indexOf(change.getAptSeq());
+                if (i >= 0) {
+                    dirty.add(cellKey(snapshot.lat(i), snapshot.lng(i), zoom));
+                }
+            }
+            Map<Long, Cell> cells = current.cellsByZoom.get(zoom - MIN_ZOOM);
+            for (long key : dirty) {
+                Cell cell = recomputeCell(snapshot, zoom, key);
+                if (cell == null) {
+                    cells.remove(key);
+                } else {
+                    cells.put(key, cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * 영역 내 클러스터 조회 (영역에 걸친 셀 전부)
+     *
+     * @param zoom Web Mercator 줌 (MIN_ZOOM~MAX_ZOOM 으로 보정)
+     */
+    public List<MarkerCluster> findClusters(double swLat, double swLng, double neLat, double neLng, int zoom) {
+        return findClusters(swLat, swLng, neLat, neLng, zoom, false);
+    }
+
+    /**
+     * 영역 내 클러스터 조회
+     *
+     * @param zoom           Web Mercator 줌 (MIN_ZOOM~MAX_ZOOM 으로 보정)
+     * @param centroidInside true 면 중심이 영역 [서, 동) x [북, 남) 안에 있는 셀만 (타일처럼 맞닿은 영역끼리 겹치지 않게 나눌 때)
+     */
+    public List<MarkerCluster> findClusters(double swLat, double swLng, double neLat, double neLng, int zoom,
+                                            boolean centroidInside) {
+        List<MarkerCluster> result = new ArrayList<>();
+        Levels current = levels;
+        if (current == null) {
+            return result;
+        }
+        int z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        Map<Long, Cell> cells = current.cellsByZoom.get(z - MIN_ZOOM);
+
+        double x0 = TileMath.lngToWorldX(swLng, z);
+        double x1 = TileMath.lngToWorldX(neLng, z);
+        double y0 = TileMath.latToWorldY(neLat, z);
+        double y1 = TileMath.latToWorldY(swLat, z);
+        long cx0 = (long) Math.floor(x0 / CELL_PIXELS);
+        long cx1 = (long) Math.floor(x1 / CELL_PIXELS);
+        long cy0 = (long) Math.floor(y0 / CELL_PIXELS);
+        long cy1 = (long) Math.floor(y1 / CELL_PIXELS);
+        long span = (cx1 - cx0 + 1) * (cy1 - cy0 + 1);
+
+        // 기본은 영역에 걸친 셀을 중심이 영역 밖이어도 포함 (가장자리에서 보이는 아파트의 클러스터가 사라지지 않도록)
+        List<Cell> overlapping = new ArrayList<>();
+        if (span > cells.size()) {
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                long cx = entry.getKey() >> 32;
+                long cy = (int) (long) entry.getKey();
+                if (cx >= cx0 && cx <= cx1 && cy >= cy0 && cy <= cy1) {
+                    overlapping.add(entry.getValue());
+                }
+            }
+        } else {
+            for (long cx = cx0; cx <= cx1; cx++) {
+                for (long cy = cy0; cy <= cy1; cy++) {
+                    Cell cell = cells.get(key(cx, cy));
+                    if (cell != null) {
+                        overlapping.add(cell);
+                    }
+                }
+            }
+        }
+        for (Cell cell : overlapping) {
+            if (centroidInside) {
+                double x = TileMath.lngToWorldX(cell.lng, z);
+                double y = TileMath.latToWorldY(cell.lat, z);
+                if (x < x0 || x >= x1 || y < y0 || y >= y1) {
+                    continue;
+                }
+            }
+            result.add(cell.toDto());
+        }
+        return result;
+    }
+
+    private Cell recomputeCell(ApartmentSpatialIndex.Snapshot snapshot, int zoom, long key) {
+        long cx = key >> 32;
+        long cy = (int) key;
+        double minLng = TileMath.worldXToLng((double) cx * CELL_PIXELS, zoom);
+        double maxLng = TileMath.worldXToLng((double) (cx + 1) * CELL_PIXELS, zoom);
+        double maxLat = TileMath.worldYToLat((double) cy * CELL_PIXELS, zoom);
+        double minLat = TileMath.worldYToLat((double) (cy + 1) * CELL_PIXELS, zoom);
+
+        Accumulator acc = new Accumulator();
+        double pad = 1e-9;
+        snapshot.tree().search(minLng - pad, minLat - pad, maxLng + pad, maxLat + pad, i -> {
+            // 경계에 걸친 점은 실제로 이 셀에 속할 때만 포함
+            if (cellKey(snapshot.lat(i), snapshot.lng(i), zoom) == key) {
+                acc.add(snapshot, i, latestDealCache);
+            }
+        });
+        return acc.count == 0 ? null : acc.toCell(snapshot);
+    }
+
+    private static long cellKey(double lat, double lng, int zoom) {
+        long cx = (long) Math.floor(TileMath.lngToWorldX(lng, zoom) / CELL_PIXELS);
+        long cy = (long) Math.floor(TileMath.latToWorldY(lat, zoom) / CELL_PIXELS);
+        return key(cx, cy);
+    }
+
+    private static long key(long cx, long cy) {
+        return (cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private static final class Levels {
+        private final ApartmentSpatialIndex.Snapshot snapshot;
+        private final List<Map<Long, Cell>> cellsByZoom;
+
+        private Levels(ApartmentSpatialIndex.Snapshot snapshot, List<Map<Long, Cell>> cellsByZoom) {
+            this.snapshot = snapshot;
+            this.cellsByZoom = cellsByZoom;
+        }
+    }
+
+    // 셀 집계 (불변, 교체 방식으로만 갱신)
+    private static final class Cell {
+        private final double lat;
+        private final double lng;
+        private final int count;
+        private final Long avgLatestPrice;
+        private final String representativeAptSeq;
+
+        private Cell(double lat, double lng, int count, Long avgLatestPrice, String representativeAptSeq) {
+            this.lat = lat;
+            this.lng = lng;
+            this.count = count;
+            this.avgLatestPrice = avgLatestPrice;
+            this.representativeAptSeq = representativeAptSeq;
+        }
+
+        private MarkerCluster toDto() {
+            return new MarkerCluster(lat, lng, count, avgLatestPrice, representativeAptSeq);
+        }
+    }
+
+    private static final class Accumulator {
+        private int count;
+        private int priceCount;
+        private long priceSum;
+        private double latSum;
+        private double lngSum;
+        // 대표 아파트: 최신 거래가 가장 최근인 아파트
+        private int representative = -1;
+        private int representativeDate = -1;
+
+        private void add(ApartmentSpatialIndex.Snapshot snapshot, int i, LatestDealCache latestDealCache) {
+            count++;
+            latSum += snapshot.lat(i);
+            lngSum += snapshot.lng(i);
+
+            HouseDeal deal = latestDealCache.get(snapshot.apartment(i).getAptSeq());
+            int dealDate = -1;
+            if (deal != null) {
+                long price = deal.getPrice();
+                if (price >= 0) {
+                    priceSum += price;
+                    priceCount++;
+                }
+                dealDate = PriceUtil.toDealDate(deal.getDealYear(), deal.getDealMonth(), deal.getDealDay());
+            }
+            if (representative < 0 || dealDate > representativeDate) {
+                representative = i;
+                representativeDate = dealDate;
+            }
+        }
+
+        private Cell toCell(ApartmentSpatialIndex.Snapshot snapshot) {
+            Long avg = priceCount == 0 ? null : Math.round((double) priceSum / priceCount);
+            return new Cell(latSum / count, lngSum / count, count, avg,
+                    snapshot.apartment(representative).getAptSeq());
+        }
+    }
+}
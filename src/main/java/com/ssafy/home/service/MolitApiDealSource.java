@@ -0,0 +1,69 @@
+package com.ssafy.home.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 실거래가 API 출처
+ * - molit.fixture-dir 이 있으면 {dir}/{lawdCd}_{dealYmd}_{pageNo}.xml 파일을 읽는다 (파일이 없으면 오류)
+ * - 아니면 공공데이터포털 API 를 호출하고 응답 본문을 그대로 스트림으로 넘긴다
+ */
+@Component
+@Slf4j
+public class MolitApiDealSource implements MolitDealSource {
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 60_000;
+
+    private final String apiUrl;
+    private final String apiKey;
+    private final String fixtureDir;
+
+    public MolitApiDealSource(
+            @Value("${molit.api-url:https://apis.data.go.kr/1613000/RTMSDataSvcAptTrade/getRTMSDataSvcAptTrade}") String apiUrl,
+            @Value("${molit.api-key:}") String apiKey,
+            @Value("${molit.fixture-dir:}") String fixtureDir) {
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.fixtureDir = fixtureDir;
+    }
+
+    @Override
+    public InputStream open(String lawdCd, String dealYmd, int pageNo, int numOfRows) throws IOException {
+        if (!fixtureDir.isBlank()) {
+            return Files.newInputStream(Path.of(fixtureDir, lawdCd + "_" + dealYmd + "_" + pageNo + ".xml"));
+        }
+        if (apiKey.isBlank()) {
+            throw new IllegalStateException("molit.api-key 가 설정되지 않았습니다.");
+        }
+
+        // 서비스 키에 +, /, = 가 있어 한 번만 엄격하게 인코딩한다
+        URI uri = UriComponentsBuilder.fromHttpUrl(apiUrl)
+                .queryParam("serviceKey", "{serviceKey}")
+                .queryParam("LAWD_CD", lawdCd)
+                .queryParam("DEAL_YMD", dealYmd)
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", numOfRows)
+                .encode()
+                .buildAndExpand(apiKey)
+                .toUri();
+
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        int status = connection.getResponseCode();
+        if (status != HttpURLConnection.HTTP_OK) {
+            connection.disconnect();
+            throw new IOException("실거래가 API 응답 오류 - HTTP " + status + " (" + lawdCd + ", " + dealYmd + ", " + pageNo + ")");
+        }
+        return connection.getInputStream();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.home.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 국토교통부 아파트 매매 실거래가 XML 응답 한 페이지를 여는 출처
+ * - 운영: 공공데이터포털 API, 개발/테스트: 로컬 XML 파일
+ */
+@FunctionalInterface
+public interface MolitDealSource {
+
+    /**
+     * @param lawdCd    시군구 코드 5자리
+     * @param dealYmd   거래연월 (YYYYMM)
+     * @param pageNo    페이지 번호 (1부터)
+     * @param numOfRows 페이지 크기
+     * @return 응답 XML (호출 측에서 닫는다)
+     */
+    InputStream open(String lawdCd, String dealYmd, int pageNo, int numOfRows) throws IOException;
+}
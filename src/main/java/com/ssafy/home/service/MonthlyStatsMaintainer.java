@@ -0,0 +1,55 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.dto.MonthlyPriceStats;
+import com.ssafy.home.mapper.HouseDealsMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * housedeal_monthly_stats 증분 유지 (아파트 x 월 거래가 집계)
+ * - 새로 들어온 거래를 (apt_seq, yyyymm) 별로 묶어 건수/합/최소/최대/제곱합을 더한다
+ * - 키 순으로 upsert 해 동시 적재끼리 행 잠금 순서가 엇갈리지 않는다
+ * - housedeals 적재와 같은 트랜잭션에서 호출되어야 한다
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MonthlyStatsMaintainer {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final HouseDealsMapper houseDealsMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(List<HouseDeal> deals) {
+        List<MonthlyPriceStats> rows = rollUp(deals);
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            houseDealsMapper.upsertMonthlyStats(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())));
+        }
+        log.debug("월간 거래가 집계 갱신 - 입력 {}건, 집계 행 {}개", deals.size(), rows.size());
+    }
+
+    // (apt_seq, yyyymm) 순으로 정렬된 월간 집계 (가격/날짜가 올바르지 않은 거래 제외)
+    static List<MonthlyPriceStats> rollUp(List<HouseDeal> deals) {
+        Map<String, MonthlyPriceStats> stats = new TreeMap<>();
+        for (HouseDeal deal : deals) {
+            long price = deal.getPrice();
+            if (deal.getAptSeq() == null || price < 0 || deal.getDealYear() <= 0
+                    || deal.getDealMonth() < 1 || deal.getDealMonth() > 12) {
+                continue;
+            }
+            int yyyymm = deal.getDealYear() * 100 + deal.getDealMonth();
+            stats.computeIfAbsent(deal.getAptSeq() + "\0" + yyyymm, k -> MonthlyPriceStats.of(deal.getAptSeq(), yyyymm))
+                    .add(price);
+        }
+        return new ArrayList<>(stats.values());
+    }
+}
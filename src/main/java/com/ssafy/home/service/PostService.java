@@ -31,12 +31,14 @@
 
 package com.ssafy.home.service;
 
+import com.ssafy.home.dto.CountResult;
 import com.ssafy.home.dto.PostDto;
 import com.ssafy.home.dto.PostSearchDto;
 import com.ssafy.home.dto.CommentDto;
 import com.ssafy.home.dto.CommentWithPostDto;
 import com.ssafy.home.mapper.PostMapper;
 import com.ssafy.home.mapper.CommentMapper;
+import com.ssafy.home.util.CountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -49,13 +51,20 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class PostService {
+    // 추정 건수 모드의 상한 (넘으면 "10,000+")
+    public static final int COUNT_CAP = 10_000;
+    private static final long COUNT_TTL_MILLIS = 30_000L;
 
     private final PostMapper postMapper;
     private final CommentMapper commentMapper;
 
+    // 검색 조건별 게시글 수 (게시글 생성/수정/삭제 시 비움)
+    private final CountCache postCounts = new CountCache(1024, COUNT_TTL_MILLIS);
+
     // 게시글 생성
     public Long createPost(PostDto post) {
         postMapper.insertPost(post);
+        postCounts.invalidateAll();
         return post.getId();
     }
 
@@ -89,11 +98,13 @@ public class PostService {
     // 게시글 수정
     public void updatePost(PostDto post) {
         postMapper.updatePost(post);
+        postCounts.invalidateAll();
     }
 
     // 게시글 삭제
     public void deletePost(Long id) {
         postMapper.deletePost(id);
+        postCounts.invalidateAll();
     }
 
     // 게시글 좋아요/싫어요
@@ -108,9 +119,26 @@ public class PostService {
         }
     }
 
-    // 게시글 수 조회
+    // 게시글 수 조회 (검색 조건별로 COUNT_TTL_MILLIS 동안 캐시)
     public Integer getPostCount(PostSearchDto searchDto) {
-        return postMapper.countPosts(searchDto);
+        return postCounts.get(countKey(searchDto), () -> postMapper.countPosts(searchDto));
+    }
+
+    // 게시글 수 추정 조회 - COUNT_CAP 건까지만 세고 넘으면 capped
+    public CountResult getEstimatedPostCount(PostSearchDto searchDto) {
+        PostSearchDto capped = PostSearchDto.builder()
+                .category(searchDto.getCategory())
+                .searchKeyword(searchDto.getSearchKeyword())
+                .authorMno(searchDto.getAuthorMno())
+                .countCap(COUNT_CAP + 1)
+                .build();
+        int counted = postCounts.get("cap:" + countKey(searchDto), () -> postMapper.countPostsCapped(capped));
+        return CountResult.ofCapped(counted, COUNT_CAP);
+    }
+
+    // 건수에 영향을 주는 조건만으로 만든 캐시 키 (페이지/정렬 제외)
+    private static String countKey(PostSearchDto searchDto) {
+        return searchDto.getCategory() + "\0" + searchDto.getSearchKeyword() + "\0" + searchDto.getAuthorMno();
     }
 
     // 사용자별 게시글 수 조회
@@ -2,14 +2,19 @@ package com.ssafy.home.service;
 
 import com.ssafy.home.domain.HouseDeal;
 import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.dto.CountResult;
 import com.ssafy.home.dto.PropertySearchRequest;
 import com.ssafy.home.dto.PropertySearchResponse;
 import com.ssafy.home.mapper.HouseDealsMapper;
+import com.ssafy.home.event.HouseDealsIngestedEvent;
 import com.ssafy.home.mapper.HouseInfoMapper;
+import com.ssafy.home.util.CountCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,16 +23,27 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class PropertyService {
+    // 추정 건수 모드의 상한 (넘으면 "10,000+")
+    public static final int COUNT_CAP = 10_000;
+    private static final long COUNT_TTL_MILLIS = 60_000L;
 
     private final HouseInfoMapper houseInfoMapper;
     private final HouseDealsMapper houseDealMapper;
 
+    // 검색 조건별 거래 건수 (거래 적재 시 비움)
+    private final CountCache dealCounts = new CountCache(1024, COUNT_TTL_MILLIS);
+
     public PropertySearchResponse searchProperties(PropertySearchRequest request) {
         // 1. 아파트명으로 apt_seq와 실제 아파트명만 조회
         List<HouseInfo> houseInfos = houseInfoMapper.findHouseInfosByName(request.getDongCode(), request.getAptName());
 
         if (houseInfos.isEmpty()) {
-            return new PropertySearchResponse(new ArrayList<>(), 0, 0, request.getPage());
+            return PropertySearchResponse.builder()
+                    .properties(new ArrayList<>())
+                    .totalCount(0)
+                    .totalPages(0)
+                    .currentPage(request.getPage())
+                    .build();
         }
 
         // 2. apt_seq 목록 추출
@@ -42,15 +58,27 @@ public class PropertyService {
         // 4. 거래내역 조회 조건 설정
         Map<String, Object> params = buildSearchParams(request, aptSeqs);
 
-        // 5. 전체 개수 조회
-        Integer totalCount = houseDealMapper.countDeals(params);
+        // 5. 전체 개수 조회 (요청한 경우 또는 커서 없는 첫 요청만)
+        boolean withCount = request.getWithCount() != null ? request.getWithCount() : request.getCursor() == null;
+        CountResult count = withCount ? countDeals(params, request.isEstimateCount()) : null;
+        Integer totalCount = count == null ? null : count.getCount();
 
         // 6. 페이징 처리된 거래내역 조회
-        Integer offset = (request.getPage() - 1) * request.getSize();
-        params.put("offset", offset);
-        params.put("limit", request.getSize());
+        //    커서가 있으면 정렬 키 다음부터 (keyset), 없으면 기존 page 기준 offset
+        //    다음 페이지 유무를 알기 위해 한 건 더 읽는다
+        if (request.getCursor() != null) {
+            applyCursor(params, request.getSortOrder(), request.getCursor());
+            params.put("offset", 0);
+        } else {
+            params.put("offset", (request.getPage() - 1) * request.getSize());
+        }
+        params.put("limit", request.getSize() + 1);
 
         List<HouseDeal> deals = houseDealMapper.findDealsWithFilter(params);
+        boolean hasNext = deals.size() > request.getSize();
+        if (hasNext) {
+            deals = new ArrayList<>(deals.subList(0, request.getSize()));
+        }
 
         // 7. 거래내역에 실제 아파트명만 설정 (기존 구조 유지)
         deals.forEach(deal -> {
@@ -58,9 +86,85 @@ public class PropertyService {
             deal.setAptNm(realAptName != null ? realAptName : request.getAptName());
         });
 
-        Integer totalPages = (int) Math.ceil((double) totalCount / request.getSize());
+        Integer totalPages = totalCount == null ? null : (int) Math.ceil((double) totalCount / request.getSize());
+
+        return PropertySearchResponse.builder()
+                .properties(deals)
+                .totalCount(totalCount)
+                .totalCountCapped(count != null && count.isCapped())
+                .totalPages(totalPages)
+                .currentPage(request.getPage())
+                .nextCursor(hasNext ? cursorOf(request.getSortOrder(), deals.get(deals.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 거래가 추가되면 모든 조건의 건수가 바뀔 수 있다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDealsIngested(HouseDealsIngestedEvent event) {
+        dealCounts.invalidateAll();
+    }
+
+    // 검색 조건별 캐시된 건수, estimate 면 COUNT_CAP 건까지만 센다
+    private CountResult countDeals(Map<String, Object> params, boolean estimate) {
+        String key = countKey(params);
+        if (!estimate) {
+            return new CountResult(dealCounts.get(key, () -> houseDealMapper.countDeals(params)), false);
+        }
+        Map<String, Object> capped = new HashMap<>(params);
+        capped.put("countCap", COUNT_CAP + 1);
+        int counted = dealCounts.get("cap:" + key, () -> houseDealMapper.countDealsCapped(capped));
+        return CountResult.ofCapped(counted, COUNT_CAP);
+    }
+
+    // 건수에 영향을 주는 조건만으로 만든 캐시 키 (페이지 제외, 아파트 순서 무관)
+    // - 가격 정렬은 가격 없는 거래를 빼고 세므로 날짜 정렬과 키를 나눈다
+    static String countKey(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<String> aptSeqs = new ArrayList<>((List<String>) params.get("aptSeqs"));
+        Collections.sort(aptSeqs);
+        return String.join(",", aptSeqs)
+                + "|" + params.get("minPrice") + "|" + params.get("maxPrice")
+                + "|" + params.get("minArea") + "|" + params.get("maxArea")
+                + "|" + (isPriceSort((String) params.get("sortOrder")) ? "price" : "date");
+    }
+
+    /**
+     * 마지막 행의 정렬 키로 다음 페이지 커서 생성
+     * - 가격순: "p,가격,no"
+     * - 날짜순: "d,년,월,일,no"
+     */
+    static String cursorOf(String sortOrder, HouseDeal last) {
+        if (isPriceSort(sortOrder)) {
+            return "p," + last.getPrice() + "," + last.getNo();
+        }
+        return "d," + last.getDealYear() + "," + last.getDealMonth() + "," + last.getDealDay() + "," + last.getNo();
+    }
+
+    // 커서를 정렬 키 조건(after*)으로 변환, 정렬과 맞지 않거나 형식이 잘못되면 IllegalArgumentException
+    static void applyCursor(Map<String, Object> params, String sortOrder, String cursor) {
+        String[] parts = cursor.split(",");
+        try {
+            if (isPriceSort(sortOrder) && parts.length == 3 && parts[0].equals("p")) {
+                params.put("afterPrice", Long.parseLong(parts[1]));
+                params.put("afterNo", Integer.parseInt(parts[2]));
+                return;
+            }
+            if (!isPriceSort(sortOrder) && parts.length == 5 && parts[0].equals("d")) {
+                params.put("afterYear", Integer.parseInt(parts[1]));
+                params.put("afterMonth", Integer.parseInt(parts[2]));
+                params.put("afterDay", Integer.parseInt(parts[3]));
+                params.put("afterNo", Integer.parseInt(parts[4]));
+                return;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + cursor, e);
+        }
+        throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + cursor);
+    }
 
-        return new PropertySearchResponse(deals, totalCount, totalPages, request.getPage());
+    private static boolean isPriceSort(String sortOrder) {
+        return "price-asc".equals(sortOrder) || "price-desc".equals(sortOrder);
     }
 
     // 빠진 메서드 추가!
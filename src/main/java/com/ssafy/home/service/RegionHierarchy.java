@@ -0,0 +1,284 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.DongCode;
+import com.ssafy.home.mapper.DongMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * dong_code_superman 전체(시도 > 구군 > 동)를 메모리에 올린 불변 지역 트리
+ * - 지역별 평균가 조회를 DB 없이 위도 정렬 배열 이진 탐색으로 처리
+ * - 행 수/updated_at 이 바뀌면 새 트리를 만들어 통째로 교체 (확인은 CHECK_INTERVAL 마다 1회)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RegionHierarchy {
+    private static final long CHECK_INTERVAL_MILLIS = 60 * 1000L;
+
+    private final DongMapper dongMapper;
+
+    private volatile Tree tree;
+    private final AtomicLong lastCheck = new AtomicLong();
+
+    public enum Level {
+        SIDO, GUGUN, DONG;
+
+        // dong_code 로 단계 판별 (뒤 8자리 0 = 시도, 뒤 5자리 0 = 구군, 그 외 동)
+        static Level of(String code) {
+            if (code.endsWith("00000000")) {
+                return SIDO;
+            }
+            return code.endsWith("00000") ? GUGUN : DONG;
+        }
+    }
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public boolean isLoaded() {
+        return tree != null;
+    }
+
+    public synchronized void reload() {
+        try {
+            long start = System.currentTimeMillis();
+            String version = dongMapper.getRegionsVersion();
+            Tree next = Tree.of(dongMapper.getAllDongs(), version);
+            tree = next;
+            lastCheck.set(System.currentTimeMillis());
+            log.info("지역 트리 적재 완료 - {}건, {}ms", next.size, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("지역 트리 적재 실패 - 기존 트리 유지", e);
+        }
+    }
+
+    // 마지막 확인 후 CHECK_INTERVAL 이 지났으면 버전을 확인하고 바뀌었으면 다시 적재 (한 스레드만 확인)
+    private void reloadIfChanged() {
+        long last = lastCheck.get();
+        long now = System.currentTimeMillis();
+        if (now - last < CHECK_INTERVAL_MILLIS || !lastCheck.compareAndSet(last, now)) {
+            return;
+        }
+        try {
+            Tree current = tree;
+            if (current == null || !Objects.equals(current.version, dongMapper.getRegionsVersion())) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("지역 트리 버전 확인 실패 - 기존 트리 유지", e);
+        }
+    }
+
+    /**
+     * 영역 내 해당 단계 지역의 평균가 (avg_price 가 있는 지역만, 이름순)
+     * - 행 형식은 기존 dong_code_superman 조회 결과와 같다
+     */
+    public List<Map<String, Object>> findInBounds(Level level, double swLat, double swLng, double neLat, double neLng) {
+        reloadIfChanged();
+        Tree current = tree;
+        if (current == null) {
+            return new ArrayList<>();
+        }
+        return current.levels.get(level).findInBounds(swLat, swLng, neLat, neLng);
+    }
+
+    // 하위 지역 (시도 -> 구군, 구군 -> 동), 없으면 빈 목록
+    public List<Region> children(String code) {
+        Tree current = tree;
+        Region region = current == null ? null : current.byCode.get(code);
+        return region == null ? Collections.emptyList() : region.children;
+    }
+
+    public Region get(String code) {
+        Tree current = tree;
+        return current == null ? null : current.byCode.get(code);
+    }
+
+    /**
+     * 지역 노드 (불변)
+     */
+    public static final class Region {
+        private final DongCode dongCode;
+        private final Level level;
+        private final Map<String, Object> row;
+        private List<Region> children = Collections.emptyList();
+
+        private Region(DongCode dongCode) {
+            this.dongCode = dongCode;
+            this.level = Level.of(dongCode.getCode());
+            this.row = toRow(dongCode, level);
+        }
+
+        public DongCode getDongCode() {
+            return dongCode;
+        }
+
+        public Level getLevel() {
+            return level;
+        }
+
+        public List<Region> getChildren() {
+            return children;
+        }
+
+        private static Map<String, Object> toRow(DongCode d, Level level) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("dong_code", d.getCode());
+            row.put("sido_name", d.getSido());
+            if (level != Level.SIDO) {
+                row.put("gugun_name", d.getGugun());
+            }
+            if (level == Level.DONG) {
+                row.put("dong_name", d.getDong());
+            }
+            row.put("lat", d.getLat());
+            row.put("lng", d.getLng());
+            row.put("avg_price", d.getAvgPrice());
+            row.put("apt_count", d.getAptCount());
+            row.put("updated_at", d.getUpdatedAt());
+            return Collections.unmodifiableMap(row);
+        }
+    }
+
+    /**
+     * 한 단계의 위도 정렬 배열
+     * - regions[i] 의 위도 = lats[i], 이름순 순위 = ranks[i]
+     */
+    private static final class LevelIndex {
+        private final Region[] regions;
+        private final double[] lats;
+        private final double[] lngs;
+        private final int[] ranks;
+
+        private LevelIndex(List<Region> members, Comparator<Region> nameOrder) {
+            List<Region> byName = new ArrayList<>(members);
+            byName.sort(nameOrder);
+            Map<Region, Integer> rankOf = new HashMap<>();
+            for (int i = 0; i < byName.size(); i++) {
+                rankOf.put(byName.get(i), i);
+            }
+            this.regions = members.toArray(new Region[0]);
+            Arrays.sort(regions, Comparator.comparingDouble(r -> r.dongCode.getLat()));
+            this.lats = new double[regions.length];
+            this.lngs = new double[regions.length];
+            this.ranks = new int[regions.length];
+            for (int i = 0; i < regions.length; i++) {
+                lats[i] = regions[i].dongCode.getLat();
+                lngs[i] = regions[i].dongCode.getLng();
+                ranks[i] = rankOf.get(regions[i]);
+            }
+        }
+
+        private List<Map<String, Object>> findInBounds(double swLat, double swLng, double neLat, double neLng) {
+            int from = lowerBound(lats, swLat);
+            List<Integer> hits = new ArrayList<>();
+            for (int i = from; i < lats.length && lats[i] <= neLat; i++) {
+                if (lngs[i] >= swLng && lngs[i] <= neLng) {
+                    hits.add(i);
+                }
+            }
+            hits.sort(Comparator.comparingInt(i -> ranks[i]));
+            List<Map<String, Object>> result = new ArrayList<>(hits.size());
+            for (int i : hits) {
+                result.add(regions[i].row);
+            }
+            return result;
+        }
+
+        // value 이상인 첫 위치
+        private static int lowerBound(double[] values, double value) {
+            int lo = 0;
+            int hi = values.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    private static final class Tree {
+        private final String version;
+        private final int size;
+        private final Map<String, Region> byCode;
+        private final Map<Level, LevelIndex> levels;
+
+        private Tree(String version, int size, Map<String, Region> byCode, Map<Level, LevelIndex> levels) {
+            this.version = version;
+            this.size = size;
+            this.byCode = byCode;
+            this.levels = levels;
+        }
+
+        private static Tree of(List<DongCode> dongCodes, String version) {
+            Map<String, Region> byCode = new HashMap<>(dongCodes.size() * 2);
+            for (DongCode d : dongCodes) {
+                if (d.getCode() != null && d.getCode().length() == 10) {
+                    byCode.put(d.getCode(), new Region(d));
+                }
+            }
+
+            // 부모 연결 (동 -> 구군 -> 시도)
+            Map<String, List<Region>> childrenOf = new HashMap<>();
+            for (Region region : byCode.values()) {
+                String code = region.dongCode.getCode();
+                String parent = switch (region.level) {
+                    case SIDO -> null;
+                    case GUGUN -> code.substring(0, 2) + "00000000";
+                    case DONG -> code.substring(0, 5) + "00000";
+                };
+                if (parent != null && byCode.containsKey(parent)) {
+                    childrenOf.computeIfAbsent(parent, k -> new ArrayList<>()).add(region);
+                }
+            }
+            childrenOf.forEach((code, children) -> {
+                children.sort(Comparator.comparing(r -> r.dongCode.getCode()));
+                byCode.get(code).children = Collections.unmodifiableList(children);
+            });
+
+            // 단계별 위도 정렬 배열 (좌표/평균가가 있는 지역만)
+            Map<Level, List<Region>> members = new HashMap<>();
+            for (Level level : Level.values()) {
+                members.put(level, new ArrayList<>());
+            }
+            for (Region region : byCode.values()) {
+                DongCode d = region.dongCode;
+                if (d.getLat() != null && d.getLng() != null && d.getAvgPrice() != null) {
+                    members.get(region.level).add(region);
+                }
+            }
+            Comparator<Region> sido = Comparator.comparing(r -> String.valueOf(r.dongCode.getSido()));
+            Comparator<Region> gugun = sido.thenComparing(r -> String.valueOf(r.dongCode.getGugun()));
+            Comparator<Region> dong = gugun.thenComparing(r -> String.valueOf(r.dongCode.getDong()));
+            Map<Level, LevelIndex> levels = new HashMap<>();
+            levels.put(Level.SIDO, new LevelIndex(members.get(Level.SIDO), sido));
+            levels.put(Level.GUGUN, new LevelIndex(members.get(Level.GUGUN), gugun));
+            levels.put(Level.DONG, new LevelIndex(members.get(Level.DONG), dong));
+
+            return new Tree(version, byCode.size(), Collections.unmodifiableMap(byCode), levels);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.DongCode;
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.mapper.DongMapper;
+import com.ssafy.home.mapper.HouseInfoMapper;
+import com.ssafy.home.util.RegionPriceDeltas;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * dong_code_superman 의 avg_price/apt_count 증분 유지 (avg_price_updater.py 전체 재계산 대체)
+ * - 아파트별 최신 거래가 바뀐 만큼 동 > 구군 > 시도 의 가격 합(price_sum)/아파트 수를 더하고 빼서
+ *   바뀐 지역 행만 갱신한다 (housedeals 를 다시 훑지 않음)
+ * - latest_housedeals 갱신과 같은 트랜잭션에서 호출되어야 한다
+ * - updated_at 이 바뀌므로 RegionHierarchy 는 다음 버전 확인 때 새 값을 읽는다
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RegionPriceMaintainer {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final HouseInfoMapper houseInfoMapper;
+    private final DongMapper dongMapper;
+
+    /**
+     * @param changes 아파트별 (이전 최신 거래, 새 최신 거래)
+     * @return 갱신한 지역 행 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int apply(List<LatestDealsChangedEvent.Change> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        Map<String, String> dongCodes = findDongCodes(changes);
+
+        RegionPriceDeltas deltas = new RegionPriceDeltas();
+        for (LatestDealsChangedEvent.Change change : changes) {
+            deltas.change(dongCodes.get(change.getAptSeq()), priceOf(change.getPrevious()), priceOf(change.getCurrent()));
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        List<String> codes = deltas.codes();
+        for (int from = 0; from < codes.size(); from += CHUNK_SIZE) {
+            List<String> chunk = codes.subList(from, Math.min(from + CHUNK_SIZE, codes.size()));
+            List<DongCode> rows = new ArrayList<>();
+            for (DongCode region : dongMapper.selectRegionPricesForUpdate(chunk)) {
+                rows.add(applyDelta(region, deltas.sumDelta(region.getCode()), deltas.countDelta(region.getCode())));
+            }
+            if (!rows.isEmpty()) {
+                dongMapper.updateRegionPrices(rows);
+                updated += rows.size();
+            }
+        }
+        log.debug("지역 평균가 갱신 - 최신 거래 변경 {}건, 지역 {}곳", changes.size(), updated);
+        return updated;
+    }
+
+    private Map<String, String> findDongCodes(List<LatestDealsChangedEvent.Change> changes) {
+        List<String> aptSeqs = new ArrayList<>(changes.size());
+        for (LatestDealsChangedEvent.Change change : changes) {
+            aptSeqs.add(change.getAptSeq());
+        }
+        Map<String, String> dongCodes = new HashMap<>();
+        for (int from = 0; from < aptSeqs.size(); from += CHUNK_SIZE) {
+            List<String> chunk = aptSeqs.subList(from, Math.min(from + CHUNK_SIZE, aptSeqs.size()));
+            for (HouseInfo info : houseInfoMapper.findRegionCodesByAptSeqs(chunk)) {
+                if (info.getSggCd() != null && info.getUmdCd() != null) {
+                    dongCodes.put(info.getAptSeq(), info.getSggCd() + info.getUmdCd());
+                }
+            }
+        }
+        return dongCodes;
+    }
+
+    // 누계에 증감을 더해 새 행 값 계산 (price_sum 이 아직 없으면 기존 평균 x 아파트 수로 시작)
+    static DongCode applyDelta(DongCode region, long sumDelta, long countDelta) {
+        long count = region.getAptCount() == null ? 0 : region.getAptCount();
+        long sum;
+        if (region.getPriceSum() != null) {
+            sum = region.getPriceSum();
+        } else {
+            sum = region.getAvgPrice() == null ? 0 : region.getAvgPrice() * count;
+        }
+        sum = Math.max(0, sum + sumDelta);
+        count = Math.max(0, count + countDelta);
+        return DongCode.builder()
+                .code(region.getCode())
+                .priceSum(count == 0 ? 0 : sum)
+                .aptCount((int) count)
+                .avgPrice(count == 0 ? null : Math.round((double) sum / count))
+                .build();
+    }
+
+    private static long priceOf(HouseDeal deal) {
+        return deal == null ? -1 : deal.getPrice();
+    }
+}
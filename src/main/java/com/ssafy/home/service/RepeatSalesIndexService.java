@@ -0,0 +1,91 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.event.DealColumnsChangedEvent;
+import com.ssafy.home.util.DealColumns;
+import com.ssafy.home.util.RepeatSalesIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구군별 반복매매 지수 배치 계산 (StatisticsService 지수 조회용)
+ * - 열 저장소 스냅샷이 통째로 바뀌면 바로, 거래가 추가되면 REFRESH_DELAY 동안 모아 한 번 다시 계산
+ * - 계산은 전용 ForkJoinPool 에서 구군 단위로 나눠 실행 (공용 풀을 쓰는 조회 병렬 스트림과 분리)
+ * - 조회는 마지막으로 완성된 결과만 본다
+ */
+@Component
+@Slf4j
+public class RepeatSalesIndexService {
+    private static final long REFRESH_DELAY_MILLIS = 10 * 60_000L;
+
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "repeat-sales-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    private volatile Map<String, RepeatSalesIndex.Series> series;
+    // 다음 계산에 쓸 최신 스냅샷
+    private DealColumns latest;
+    private boolean refreshScheduled;
+
+    // 구군 지수 (아직 계산 전이거나 쌍이 부족한 구군이면 null)
+    public RepeatSalesIndex.Series series(String gugunCode) {
+        Map<String, RepeatSalesIndex.Series> current = series;
+        return current == null ? null : current.get(gugunCode);
+    }
+
+    public boolean isReady() {
+        return series != null;
+    }
+
+    /**
+     * 열 저장소 잠금 안에서 호출되므로 작업만 넘기고 바로 반환한다
+     */
+    @EventListener
+    public synchronized void onDealColumnsChanged(DealColumnsChangedEvent event) {
+        latest = event.getColumns();
+        if (event.isReloaded()) {
+            worker.execute(this::refresh);
+            return;
+        }
+        if (!refreshScheduled) {
+            refreshScheduled = true;
+            worker.schedule(this::refresh, REFRESH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refresh() {
+        DealColumns columns;
+        synchronized (this) {
+            columns = latest;
+            refreshScheduled = false;
+        }
+        if (columns == null) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Map<String, RepeatSalesIndex.Series> next = RepeatSalesIndex.compute(columns, pool);
+            series = next;
+            log.info("반복매매 지수 계산 완료 - 거래 {}건, 구군 {}곳, {}ms", columns.size(), next.size(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("반복매매 지수 계산 실패 - 기존 지수 유지", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        pool.shutdownNow();
+    }
+}
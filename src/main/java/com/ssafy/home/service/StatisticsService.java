@@ -1,22 +1,46 @@
 package com.ssafy.home.service;
 
+import com.ssafy.home.dto.MonthlyPriceStats;
 import com.ssafy.home.mapper.StatisticsMapper;
+import com.ssafy.home.util.ComplexSketches;
+import com.ssafy.home.util.DealColumns;
+import com.ssafy.home.util.DealCube;
+import com.ssafy.home.util.PriceSketches;
+import com.ssafy.home.util.RepeatSalesIndex;
+import com.ssafy.home.util.TDigest;
+import com.ssafy.home.util.YearMonthIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @Service
 public class StatisticsService {
 
+    // 평형 구간 상한 (전용면적 / 3.3, 이보다 크면 마지막 구간)
+    private static final int MAX_SIZE_RANGE = DealCube.MAX_SIZE_BUCKET;
+    // 지역 통계에 함께 내려주는 거래가 분위수
+    private static final double[] PRICE_QUANTILES = {0.10, 0.25, 0.50, 0.75, 0.90};
+    private static final String[] PRICE_QUANTILE_KEYS = {"p10", "p25", "p50", "p75", "p90"};
+
     private final StatisticsMapper statisticsMapper;
+    private final DealColumnStore dealColumnStore;
+    private final DealCubeService dealCubeService;
+    private final RepeatSalesIndexService repeatSalesIndexService;
 
     @Autowired
-    public StatisticsService(StatisticsMapper statisticsMapper) {
+    public StatisticsService(StatisticsMapper statisticsMapper, DealColumnStore dealColumnStore,
+                             DealCubeService dealCubeService, RepeatSalesIndexService repeatSalesIndexService) {
         this.statisticsMapper = statisticsMapper;
+        this.dealColumnStore = dealColumnStore;
+        this.dealCubeService = dealCubeService;
+        this.repeatSalesIndexService = repeatSalesIndexService;
     }
 
     // 아파트 가격 추세 분석
@@ -39,14 +63,9 @@ public class StatisticsService {
                 startDate = endDate.minusYears(1);
         }
 
-        // 월별 평균 가격 조회
-        List<Map<String, Object>> monthlyPrices = statisticsMapper.findMonthlyAveragePrices(
-                aptSeq,
-                startDate.getYear(),
-                startDate.getMonthValue(),
-                endDate.getYear(),
-                endDate.getMonthValue()
-        );
+        // 월별 평균 가격 조회 (월간 집계 테이블에서 기간 내 월 수만큼만 읽음)
+        List<Map<String, Object>> monthlyPrices = monthlyPriceRows(
+                statisticsMapper.findMonthlyStats(aptSeq, yyyymm(startDate), yyyymm(endDate)));
 
         // 결과 맵 생성
         Map<String, Object> result = new HashMap<>();
@@ -77,6 +96,26 @@ public class StatisticsService {
                 startDate = endDate.minusYears(1);
         }
 
+        // 큐브 셀 합산 -> 열 저장소 스캔 -> SQL 순으로 사용
+        DealCube cube = dealCubeService.cube();
+        DealColumns columns = dealColumnStore.columns();
+        if (cube != null && DealCube.supports(areaCode)) {
+            Map<String, Object> result = areaStatistics(cube, areaCode, startDate, endDate,
+                    priceDigest(columns, areaCode, startDate, endDate),
+                    activeComplexes(columns, areaCode, startDate, endDate));
+            result.put("areaCode", areaCode);
+            result.put("period", period);
+            return result;
+        }
+        if (columns != null) {
+            Map<String, Object> result = areaStatistics(columns, areaCode, startDate, endDate,
+                    priceDigest(columns, areaCode, startDate, endDate),
+                    activeComplexes(columns, areaCode, startDate, endDate));
+            result.put("areaCode", areaCode);
+            result.put("period", period);
+            return result;
+        }
+
         // 지역별 통계 조회
         Map<String, Object> areaStats = statisticsMapper.findAreaStatistics(
                 areaCode,
@@ -105,11 +144,72 @@ public class StatisticsService {
         return result;
     }
 
+    // 구군 반복매매 지수 (지수 첫 달 = 100, 평형 구성이 달마다 달라도 흔들리지 않는 가격 추세)
+    public Map<String, Object> getRepeatSalesIndex(String areaCode, String period) {
+        if (areaCode == null || areaCode.length() != 5) {
+            throw new IllegalArgumentException("반복매매 지수는 구군(법정동 코드 5자리) 단위로만 제공합니다: " + areaCode);
+        }
+        // 기간에 따른 시작 월 (all 이면 전체)
+        LocalDate endDate = LocalDate.now();
+        int fromYyyymm;
+
+        switch (period) {
+            case "3y":
+                fromYyyymm = yyyymm(endDate.minusYears(3));
+                break;
+            case "5y":
+                fromYyyymm = yyyymm(endDate.minusYears(5));
+                break;
+            case "all":
+                fromYyyymm = 0;
+                break;
+            default:
+                fromYyyymm = yyyymm(endDate.minusYears(1));
+        }
+
+        RepeatSalesIndex.Series series = repeatSalesIndexService.series(areaCode);
+        List<Map<String, Object>> data = new ArrayList<>();
+        if (series != null) {
+            for (int i = 0; i < series.size(); i++) {
+                if (series.yyyymm(i) >= fromYyyymm) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("yearMonth", yearMonthLabel(YearMonthIndex.of(series.yyyymm(i))));
+                    row.put("index", Math.round(series.index(i) * 100) / 100.0);
+                    data.add(row);
+                }
+            }
+        }
+
+        // 결과 맵 생성
+        Map<String, Object> result = new HashMap<>();
+        result.put("areaCode", areaCode);
+        result.put("period", period);
+        result.put("ready", repeatSalesIndexService.isReady());
+        result.put("baseMonth", series == null ? null : yearMonthLabel(YearMonthIndex.of(series.yyyymm(0))));
+        result.put("pairCount", series == null ? 0 : series.pairCount());
+        result.put("data", data);
+
+        return result;
+    }
+
     // 평수별 가격 통계
     public Map<String, Object> getSizeStatistics(String areaCode, String sizeRange) {
         List<Map<String, Object>> sizeStats;
+        DealCube cube = dealCubeService.cube();
+        DealColumns columns = dealColumnStore.columns();
 
-        if (sizeRange != null && !sizeRange.isEmpty()) {
+        if ((cube != null && DealCube.supports(areaCode)) || columns != null) {
+            int minSize = 0;
+            int maxSize = MAX_SIZE_RANGE;
+            if (sizeRange != null && !sizeRange.isEmpty()) {
+                String[] range = sizeRange.split("-");
+                minSize = Integer.parseInt(range[0]);
+                maxSize = Integer.parseInt(range[1]);
+            }
+            sizeStats = cube != null && DealCube.supports(areaCode)
+                    ? sizeStatistics(cube, areaCode, minSize, maxSize)
+                    : sizeStatistics(columns, areaCode, minSize, maxSize);
+        } else if (sizeRange != null && !sizeRange.isEmpty()) {
             // 특정 평수 범위의 통계 조회
             String[] range = sizeRange.split("-");
             int minSize = Integer.parseInt(range[0]);
@@ -128,4 +228,211 @@ public class StatisticsService {
 
         return result;
     }
+
+    // 월간 집계 -> 추세 차트 행 (기존 키 yearMonth/avgPrice/dealCount 에 최소/최대/표준편차 추가)
+    private static List<Map<String, Object>> monthlyPriceRows(List<MonthlyPriceStats> stats) {
+        List<Map<String, Object>> result = new ArrayList<>(stats.size());
+        for (MonthlyPriceStats month : stats) {
+            if (month.getDealCount() <= 0) {
+                continue;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("yearMonth", yearMonthLabel(YearMonthIndex.of(month.getYyyymm())));
+            row.put("avgPrice", month.avgPrice());
+            row.put("dealCount", month.getDealCount());
+            row.put("minPrice", month.getPriceMin());
+            row.put("maxPrice", month.getPriceMax());
+            row.put("priceStd", month.priceStd());
+            result.add(row);
+        }
+        return result;
+    }
+
+    // 기간 내 거래가 분포 (구군 이상은 월별 스케치 합산, 동/기타 접두어는 열 저장소에서 직접), 계산할 수 없으면 null
+    private TDigest priceDigest(DealColumns columns, String areaCode, LocalDate startDate, LocalDate endDate) {
+        PriceSketches sketches = dealCubeService.sketches();
+        if (sketches != null && PriceSketches.supports(areaCode)) {
+            return sketches.merged(areaCode, yyyymm(startDate), yyyymm(endDate));
+        }
+        if (columns == null) {
+            return null;
+        }
+        TDigest digest = new TDigest();
+        columns.scanApartments(apartmentsInArea(columns, areaCode), yyyymm(startDate), yyyymm(endDate),
+                r -> digest.add(columns.price(r)));
+        return digest;
+    }
+
+    // 기간 내 거래가 있었던 단지 수 (구군 이상은 월별 HyperLogLog 합집합 추정, 동/기타 접두어는 열 저장소에서 정확히), 계산할 수 없으면 null
+    private Long activeComplexes(DealColumns columns, String areaCode, LocalDate startDate, LocalDate endDate) {
+        ComplexSketches sketches = dealCubeService.complexSketches();
+        if (sketches != null && ComplexSketches.supports(areaCode)) {
+            return sketches.union(areaCode, yyyymm(startDate), yyyymm(endDate)).estimate();
+        }
+        if (columns == null) {
+            return null;
+        }
+        boolean[] traded = new boolean[columns.aptCount()];
+        long[] active = new long[1];
+        columns.scanApartments(apartmentsInArea(columns, areaCode), yyyymm(startDate), yyyymm(endDate), r -> {
+            if (!traded[columns.apt(r)]) {
+                traded[columns.apt(r)] = true;
+                active[0]++;
+            }
+        });
+        return active[0];
+    }
+
+    // ---- 큐브 기반 계산 (셀 합산, 열 저장소 계산과 같은 결과) ----
+
+    // 지역의 가격 통계 + 월별 거래량
+    private static Map<String, Object> areaStatistics(DealCube cube, String areaCode,
+                                                      LocalDate startDate, LocalDate endDate, TDigest digest,
+                                                      Long activeComplexes) {
+        int base = YearMonthIndex.of(yyyymm(startDate));
+        int months = YearMonthIndex.of(yyyymm(endDate)) - base + 1;
+        int[] monthCounts = new int[months];
+        // [건수, 합계, 최소, 최대] + 제곱합
+        long[] acc = {0, 0, Long.MAX_VALUE, Long.MIN_VALUE};
+        double[] sumSquares = new double[1];
+        cube.scan(areaCode, yyyymm(startDate), yyyymm(endDate), 0, DealCube.MAX_SIZE_BUCKET, (cells, i) -> {
+            acc[0] += cells.count(i);
+            acc[1] += cells.sum(i);
+            acc[2] = Math.min(acc[2], cells.min(i));
+            acc[3] = Math.max(acc[3], cells.max(i));
+            sumSquares[0] += cells.sumSquares(i);
+            monthCounts[YearMonthIndex.of(cells.yyyymm(i)) - base] += cells.count(i);
+        });
+        return areaStatisticsResult(acc, sumSquares[0], monthCounts, base, digest, activeComplexes);
+    }
+
+    // 평형 구간별 평균가/거래 수 (전체 기간)
+    private static List<Map<String, Object>> sizeStatistics(DealCube cube, String areaCode,
+                                                            int minSize, int maxSize) {
+        long[] sums = new long[MAX_SIZE_RANGE + 1];
+        int[] counts = new int[MAX_SIZE_RANGE + 1];
+        cube.scan(areaCode, 0, Integer.MAX_VALUE, Math.max(0, minSize), maxSize, (cells, i) -> {
+            sums[cells.bucket(i)] += cells.sum(i);
+            counts[cells.bucket(i)] += cells.count(i);
+        });
+        return sizeStatisticsResult(sums, counts);
+    }
+
+    // ---- 열 저장소 기반 계산 (기존 SQL 과 같은 키로 반환) ----
+
+    // 지역(법정동 코드 접두어)의 가격 통계 + 월별 거래량
+    private static Map<String, Object> areaStatistics(DealColumns columns, String areaCode,
+                                                      LocalDate startDate, LocalDate endDate, TDigest digest,
+                                                      Long activeComplexes) {
+        int base = YearMonthIndex.of(yyyymm(startDate));
+        int months = YearMonthIndex.of(yyyymm(endDate)) - base + 1;
+        int[] monthCounts = new int[months];
+        // [건수, 합계, 최소, 최대] + 제곱합
+        long[] acc = {0, 0, Long.MAX_VALUE, Long.MIN_VALUE};
+        double[] sumSquares = new double[1];
+        columns.scanApartments(apartmentsInArea(columns, areaCode), yyyymm(startDate), yyyymm(endDate), r -> {
+            int price = columns.price(r);
+            acc[0]++;
+            acc[1] += price;
+            acc[2] = Math.min(acc[2], price);
+            acc[3] = Math.max(acc[3], price);
+            sumSquares[0] += (double) price * price;
+            monthCounts[YearMonthIndex.of(columns.yyyymm(r)) - base]++;
+        });
+        return areaStatisticsResult(acc, sumSquares[0], monthCounts, base, digest, activeComplexes);
+    }
+
+    // acc = [건수, 합계, 최소, 최대], monthCounts = base 월부터의 월별 거래 수, digest = 분위수용 분포 (없으면 null)
+    // activeComplexes = 거래 단지 수 (없으면 null)
+    private static Map<String, Object> areaStatisticsResult(long[] acc, double sumSquares, int[] monthCounts, int base,
+                                                            TDigest digest, Long activeComplexes) {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        if (acc[0] > 0) {
+            double avg = (double) acc[1] / acc[0];
+            statistics.put("avgPrice", avg);
+            statistics.put("maxPrice", acc[3]);
+            statistics.put("minPrice", acc[2]);
+            statistics.put("totalDeals", acc[0]);
+            statistics.put("priceStd", Math.sqrt(Math.max(0, sumSquares / acc[0] - avg * avg)));
+        } else {
+            statistics.put("avgPrice", null);
+            statistics.put("maxPrice", null);
+            statistics.put("minPrice", null);
+            statistics.put("totalDeals", 0);
+            statistics.put("priceStd", null);
+        }
+        if (digest != null) {
+            boolean empty = digest.count() == 0;
+            for (int q = 0; q < PRICE_QUANTILES.length; q++) {
+                statistics.put(PRICE_QUANTILE_KEYS[q], empty ? null : Math.round(digest.quantile(PRICE_QUANTILES[q])));
+            }
+        }
+        if (activeComplexes != null) {
+            statistics.put("activeComplexes", activeComplexes);
+        }
+
+        List<Map<String, Object>> monthlyVolume = new ArrayList<>();
+        for (int m = 0; m < monthCounts.length; m++) {
+            if (monthCounts[m] > 0) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("yearMonth", yearMonthLabel(base + m));
+                row.put("dealCount", monthCounts[m]);
+                monthlyVolume.add(row);
+            }
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("statistics", statistics);
+        result.put("monthlyVolume", monthlyVolume);
+        return result;
+    }
+
+    // 평형(전용면적 / 3.3) 구간별 평균가/거래 수
+    private static List<Map<String, Object>> sizeStatistics(DealColumns columns, String areaCode,
+                                                            int minSize, int maxSize) {
+        long[] sums = new long[MAX_SIZE_RANGE + 1];
+        int[] counts = new int[MAX_SIZE_RANGE + 1];
+        columns.scanApartments(apartmentsInArea(columns, areaCode), 0, Integer.MAX_VALUE, r -> {
+            int size = Math.min(MAX_SIZE_RANGE, (int) Math.floor(columns.area(r) / 3.3));
+            if (size >= minSize && size <= maxSize && size >= 0) {
+                sums[size] += columns.price(r);
+                counts[size]++;
+            }
+        });
+        return sizeStatisticsResult(sums, counts);
+    }
+
+    private static List<Map<String, Object>> sizeStatisticsResult(long[] sums, int[] counts) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int size = 0; size <= MAX_SIZE_RANGE; size++) {
+            if (counts[size] > 0) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("sizeRange", size);
+                row.put("avgPrice", (double) sums[size] / counts[size]);
+                row.put("dealCount", counts[size]);
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    private static int[] apartmentsInArea(DealColumns columns, String areaCode) {
+        String prefix = areaCode == null ? "" : areaCode;
+        int[] apts = new int[columns.aptCount()];
+        int n = 0;
+        for (int a = 0; a < columns.aptCount(); a++) {
+            if (columns.dongCode(a).startsWith(prefix)) {
+                apts[n++] = a;
+            }
+        }
+        return Arrays.copyOf(apts, n);
+    }
+
+    private static int yyyymm(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    private static String yearMonthLabel(int monthIndex) {
+        return String.format("%d-%02d", monthIndex / 12, monthIndex % 12 + 1);
+    }
 }
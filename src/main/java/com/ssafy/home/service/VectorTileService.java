@@ -0,0 +1,140 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.dto.MarkerCluster;
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.util.LruCache;
+import com.ssafy.home.util.MvtEncoder;
+import com.ssafy.home.util.PriceUtil;
+import com.ssafy.home.util.TileMath;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아파트 마커 벡터 타일 (Mapbox Vector Tile)
+ * - APARTMENT_MIN_ZOOM 이상: "apartments" 레이어 (아파트별 최신 거래가)
+ * - 그 미만: "clusters" 레이어 (MarkerClusterService 의 클러스터)
+ * - 인코딩된 타일은 LRU 캐시에 보관, 최신 거래가 바뀐 아파트가 속한 타일만 무효화
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VectorTileService {
+    public static final int APARTMENT_MIN_ZOOM = 14;
+    private static final int MAX_CACHED_TILES = 4096;
+
+    private final ApartmentSpatialIndex apartmentSpatialIndex;
+    private final LatestDealCache latestDealCache;
+    private final MarkerClusterService markerClusterService;
+
+    private final LruCache<String, byte[]> tileCache = new LruCache<>(MAX_CACHED_TILES);
+
+    public byte[] getTile(int z, int x, int y) {
+        if (z < 0 || z > TileMath.MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new IllegalArgumentException("잘못된 타일 좌표입니다: " + z + "/" + x + "/" + y);
+        }
+        return tileCache.computeIfAbsent(tileKey(z, x, y), key -> buildTile(z, x, y));
+    }
+
+    public void invalidateAll() {
+        tileCache.clear();
+    }
+
+    // 최신 거래가 바뀐 아파트가 포함된 타일만 제거 (클러스터 갱신 이후 실행)
+    @Order(100)
+    @EventListener
+    public void onLatestDealsChanged(LatestDealsChangedEvent event) {
+        ApartmentSpatialIndex.Snapshot snapshot = apartmentSpatialIndex.snapshot();
+        if (snapshot == null) {
+            return;
+        }
+        Set<String> stale = new HashSet<>();
+        for (LatestDealsChangedEvent.Change change : event.getChanges()) {
+            int i = snapshot.indexOf(change.getAptSeq());
+            if (i < 0) {
+                continue;
+            }
+            for (int z = 0; z <= TileMath.MAX_ZOOM; z++) {
+                int tx = (int) (TileMath.lngToWorldX(snapshot.lng(i), z) / TileMath.TILE_SIZE);
+                int ty = (int) (TileMath.latToWorldY(snapshot.lat(i), z) / TileMath.TILE_SIZE);
+                stale.add(tileKey(z, tx, ty));
+            }
+        }
+        // 클러스터 타일은 셀 중심이 옮겨갈 수 있어 저줌 타일 전체를 비운다
+        tileCache.removeIf(key -> stale.contains(key) || zoomOf(key) < APARTMENT_MIN_ZOOM);
+    }
+
+    private byte[] buildTile(int z, int x, int y) {
+        double originX = (double) x * TileMath.TILE_SIZE;
+        double originY = (double) y * TileMath.TILE_SIZE;
+        double west = TileMath.worldXToLng(originX, z);
+        double east = TileMath.worldXToLng(originX + TileMath.TILE_SIZE, z);
+        double north = TileMath.worldYToLat(originY, z);
+        double south = TileMath.worldYToLat(originY + TileMath.TILE_SIZE, z);
+
+        MvtEncoder encoder = new MvtEncoder();
+        if (z >= APARTMENT_MIN_ZOOM) {
+            ApartmentSpatialIndex.Snapshot snapshot = apartmentSpatialIndex.snapshot();
+            if (snapshot != null) {
+                MvtEncoder.Layer layer = encoder.layer("apartments");
+                snapshot.tree().search(west, south, east, north, i -> {
+                    HouseInfo apt = snapshot.apartment(i);
+                    Map<String, Object> props = new LinkedHashMap<>();
+                    props.put("aptSeq", apt.getAptSeq());
+                    props.put("aptNm", apt.getAptNm());
+                    HouseDeal deal = latestDealCache.get(apt.getAptSeq());
+                    if (deal != null) {
+                        long price = deal.getPrice();
+                        if (price >= 0) {
+                            props.put("price", price);
+                        }
+                        props.put("dealDate", (long) PriceUtil.toDealDate(
+                                deal.getDealYear(), deal.getDealMonth(), deal.getDealDay()));
+                    }
+                    layer.addPoint(i, toTileX(snapshot.lng(i), z, originX, layer),
+                            toTileY(snapshot.lat(i), z, originY, layer), props);
+                });
+            }
+        } else {
+            MvtEncoder.Layer layer = encoder.layer("clusters");
+            // 타일 경계에 걸친 셀이 이웃 타일에 두 번 그려지지 않도록 중심이 이 타일 안인 클러스터만
+            List<MarkerCluster> clusters = markerClusterService.findClusters(south, west, north, east, z, true);
+            long id = 0;
+            for (MarkerCluster cluster : clusters) {
+                Map<String, Object> props = new LinkedHashMap<>();
+                props.put("count", (long) cluster.getCount());
+                props.put("avgPrice", cluster.getAvgLatestPrice());
+                props.put("aptSeq", cluster.getRepresentativeAptSeq());
+                layer.addPoint(id++, toTileX(cluster.getLng(), z, originX, layer),
+                        toTileY(cluster.getLat(), z, originY, layer), props);
+            }
+        }
+        return encoder.encode();
+    }
+
+    private static int toTileX(double lng, int z, double originX, MvtEncoder.Layer layer) {
+        return (int) Math.round((TileMath.lngToWorldX(lng, z) - originX) * layer.extent() / TileMath.TILE_SIZE);
+    }
+
+    private static int toTileY(double lat, int z, double originY, MvtEncoder.Layer layer) {
+        return (int) Math.round((TileMath.latToWorldY(lat, z) - originY) * layer.extent() / TileMath.TILE_SIZE);
+    }
+
+    private static String tileKey(int z, int x, int y) {
+        return z + "/" + x + "/" + y;
+    }
+
+    private static int zoomOf(String key) {
+        return Integer.parseInt(key.substring(0, key.indexOf('/')));
+    }
+}
@@ -0,0 +1,177 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.util.LruCache;
+import com.ssafy.home.util.TileMath;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 지도 영역 조회 결과를 타일 단위로 캐시
+ * - 요청 영역을 줌별 고정 타일 격자에 맞춰 나누고 타일마다 DB 결과를 캐시
+ * - 응답은 캐시된 타일을 모아 요청 영역으로 잘라서 만든다 (조금 이동해도 같은 타일을 재사용)
+ * - 항목은 자기 좌표가 속한 타일 하나에만 담기므로 타일 경계에서 중복되지 않는다
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ViewportTileCache {
+    public static final String LAYER_APARTMENTS = "apartments";
+
+    // 요청 하나가 걸칠 수 있는 최대 타일 수 (넘으면 한 단계 낮은 줌 격자 사용)
+    private static final int MAX_TILES = 16;
+    private static final int MAX_TILE_ZOOM = 16;
+    private static final int MAX_ENTRIES = 8192;
+    // dong_code_superman 은 외부 배치로도 갱신되므로 일정 시간이 지나면 다시 읽는다
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+
+    private final ApartmentSpatialIndex apartmentSpatialIndex;
+
+    private final LruCache<String, Tile> tiles = new LruCache<>(MAX_ENTRIES);
+
+    /**
+     * 타일 단위 로더 (타일 영역의 항목 조회)
+     */
+    @FunctionalInterface
+    public interface TileLoader<T> {
+        List<T> load(double swLat, double swLng, double neLat, double neLng);
+    }
+
+    /**
+     * 요청 영역의 항목을 타일 캐시를 거쳐 조회
+     *
+     * @param layer  캐시 구분 (엔드포인트별로 다르게)
+     * @param loader 캐시에 없는 타일을 읽을 때 사용
+     * @param latOf  항목의 위도 (좌표가 없으면 NaN)
+     * @param lngOf  항목의 경도 (좌표가 없으면 NaN)
+     */
+    public <T> List<T> query(String layer, double swLat, double swLng, double neLat, double neLng,
+                             TileLoader<T> loader, ToDoubleFunction<T> latOf, ToDoubleFunction<T> lngOf) {
+        int z = zoomFor(swLat, swLng, neLat, neLng);
+        int x0 = tileX(swLng, z);
+        int x1 = tileX(neLng, z);
+        int y0 = tileY(neLat, z);
+        int y1 = tileY(swLat, z);
+
+        List<T> result = new ArrayList<>();
+        for (int x = x0; x <= x1; x++) {
+            for (int y = y0; y <= y1; y++) {
+                List<T> items = tile(layer, z, x, y, loader, latOf, lngOf);
+                for (T item : items) {
+                    double lat = latOf.applyAsDouble(item);
+                    double lng = lngOf.applyAsDouble(item);
+                    if (lat >= swLat && lat <= neLat && lng >= swLng && lng <= neLng) {
+                        result.add(item);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(String layer) {
+        String prefix = layer + "/";
+        tiles.removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void invalidateAll() {
+        tiles.clear();
+    }
+
+    // 최신 거래가 바뀐 아파트가 속한 아파트 타일만 제거
+    @EventListener
+    public void onLatestDealsChanged(LatestDealsChangedEvent event) {
+        ApartmentSpatialIndex.Snapshot snapshot = apartmentSpatialIndex.snapshot();
+        if (snapshot == null) {
+            invalidate(LAYER_APARTMENTS);
+            return;
+        }
+        Set<String> stale = new HashSet<>();
+        for (LatestDealsChangedEvent.Change change : event.getChanges()) {
+            int i = snapshot.indexOf(change.getAptSeq());
+            if (i < 0) {
+                continue;
+            }
+            for (int z = 0; z <= MAX_TILE_ZOOM; z++) {
+                stale.add(key(LAYER_APARTMENTS, z, tileX(snapshot.lng(i), z), tileY(snapshot.lat(i), z)));
+            }
+        }
+        tiles.removeIf(stale::contains);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> tile(String layer, int z, int x, int y, TileLoader<T> loader,
+                             ToDoubleFunction<T> latOf, ToDoubleFunction<T> lngOf) {
+        String key = key(layer, z, x, y);
+        Tile cached = tiles.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.loadedAt < TTL_MILLIS) {
+            return (List<T>) cached.items;
+        }
+
+        double west = TileMath.worldXToLng((double) x * TileMath.TILE_SIZE, z);
+        double east = TileMath.worldXToLng((double) (x + 1) * TileMath.TILE_SIZE, z);
+        double north = TileMath.worldYToLat((double) y * TileMath.TILE_SIZE, z);
+        double south = TileMath.worldYToLat((double) (y + 1) * TileMath.TILE_SIZE, z);
+
+        List<T> items = new ArrayList<>();
+        for (T item : loader.load(south, west, north, east)) {
+            double lat = latOf.applyAsDouble(item);
+            double lng = lngOf.applyAsDouble(item);
+            // 경계(BETWEEN 양끝 포함)에 걸친 항목은 자기 타일에만 담는다
+            if (!Double.isNaN(lat) && !Double.isNaN(lng) && tileX(lng, z) == x && tileY(lat, z) == y) {
+                items.add(item);
+            }
+        }
+        List<T> frozen = Collections.unmodifiableList(items);
+        tiles.put(key, new Tile(frozen, now));
+        return frozen;
+    }
+
+    // 요청 영역이 MAX_TILES 이하로 덮이는 가장 높은 줌
+    private static int zoomFor(double swLat, double swLng, double neLat, double neLng) {
+        for (int z = MAX_TILE_ZOOM; z > 0; z--) {
+            long columns = tileX(neLng, z) - tileX(swLng, z) + 1L;
+            long rows = tileY(swLat, z) - tileY(neLat, z) + 1L;
+            if (columns * rows <= MAX_TILES) {
+                return z;
+            }
+        }
+        return 0;
+    }
+
+    private static int tileX(double lng, int z) {
+        return clampTile((int) Math.floor(TileMath.lngToWorldX(lng, z) / TileMath.TILE_SIZE), z);
+    }
+
+    private static int tileY(double lat, int z) {
+        return clampTile((int) Math.floor(TileMath.latToWorldY(lat, z) / TileMath.TILE_SIZE), z);
+    }
+
+    private static int clampTile(int t, int z) {
+        return Math.max(0, Math.min((1 << z) - 1, t));
+    }
+
+    private static String key(String layer, int z, int x, int y) {
+        return layer + "/" + z + "/" + x + "/" + y;
+    }
+
+    private static final class Tile {
+        private final List<?> items;
+        private final long loadedAt;
+
+        private Tile(List<?> items, long loadedAt) {
+            this.items = items;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssafy.home.util;
+
+/**
+ * 지역 x 년월 거래 단지 수 스케치 (HyperLogLog, 보관/병합은 RegionMonthSketches)
+ * - 구군/월 묶음에서 거래한 아파트를 넣고, 시도/전국은 합집합이 된다
+ * - 조회 시 기간 내 월 스케치의 합집합으로 서로 다른 단지 수를 추정한다 (월을 넘어 중복된 단지는 한 번만 센다)
+ */
+public final class ComplexSketches {
+    private static final RegionMonthSketches.Codec<HyperLogLog> CODEC = new RegionMonthSketches.Codec<>(
+            HyperLogLog::new, HyperLogLog::fromBytes, HyperLogLog::toBytes, HyperLogLog::merge);
+
+    private final RegionMonthSketches<HyperLogLog> sketches;
+
+    private ComplexSketches(RegionMonthSketches<HyperLogLog> sketches) {
+        this.sketches = sketches;
+    }
+
+    // 스케치로 답할 수 있는 지역 코드인지 (없거나 2/5자리)
+    public static boolean supports(String areaCode) {
+        return RegionMonthSketches.supports(areaCode);
+    }
+
+    public int sketchCount() {
+        return sketches.sketchCount();
+    }
+
+    /**
+     * 지역의 [fromYyyymm, toYyyymm] 월 스케치 합집합 (거래가 없으면 빈 스케치)
+     */
+    public HyperLogLog union(String areaCode, int fromYyyymm, int toYyyymm) {
+        return sketches.combined(areaCode, fromYyyymm, toYyyymm);
+    }
+
+    /**
+     * 다른 스케치 묶음(증분)을 합친다
+     */
+    public void merge(ComplexSketches delta) {
+        sketches.merge(delta.sketches);
+    }
+
+    /**
+     * 열 저장소 스냅샷 전체로 스케치 생성 (법정동 코드가 없는 아파트 거래 제외)
+     * - 행 값은 아파트 번호 (같은 달 여러 번 거래한 아파트도 HyperLogLog 에서는 한 번으로 센다)
+     */
+    public static ComplexSketches build(DealColumns columns) {
+        long[] hashOfApt = new long[columns.aptCount()];
+        for (int a = 0; a < columns.aptCount(); a++) {
+            hashOfApt[a] = HyperLogLog.hash(columns.aptSeq(a));
+        }
+        return new ComplexSketches(RegionMonthSketches.build(columns, CODEC, columns::apt,
+                (hll, apt) -> hll.add(hashOfApt[(int) apt])));
+    }
+}
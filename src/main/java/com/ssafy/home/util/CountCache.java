@@ -0,0 +1,58 @@
+package com.ssafy.home.util;
+
+import java.util.function.IntSupplier;
+
+/**
+ * 목록 조회용 COUNT 결과 캐시 (스레드 안전)
+ * - 정규화한 검색 조건 문자열을 키로 ttlMillis 동안 재사용
+ * - 쓰기가 일어나면 호출 측에서 invalidateAll() 로 비운다
+ * - 비운 뒤 끝난 이전 세대의 COUNT 결과는 저장하지 않는다
+ */
+public class CountCache {
+    private final LruCache<String, Entry> entries;
+    private final long ttlMillis;
+    private volatile long generation;
+
+    public CountCache(int maxEntries, long ttlMillis) {
+        this.entries = new LruCache<>(maxEntries);
+        this.ttlMillis = ttlMillis;
+    }
+
+    // 캐시된 값이 유효하면 반환, 아니면 loader 로 다시 센다 (loader 는 락 밖에서 실행)
+    public int get(String key, IntSupplier loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.generation == generation && now - cached.loadedAt < ttlMillis) {
+            return cached.count;
+        }
+        long loadGeneration = generation;
+        int count = loader.getAsInt();
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(count, now, loadGeneration));
+            }
+        }
+        return count;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final int count;
+        private final long loadedAt;
+        private final long generation;
+
+        private Entry(int count, long loadedAt, long generation) {
+            this.count = count;
+            this.loadedAt = loadedAt;
+            this.generation = generation;
+        }
+    }
+}
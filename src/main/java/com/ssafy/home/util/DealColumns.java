@@ -0,0 +1,339 @@
+package com.ssafy.home.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * 거래 분석용 열 지향 메모리 저장소 (한 세대의 불변 스냅샷)
+ * - 행 [0, sortedSize) 는 (아파트, 거래일) 순으로 정렬, 아파트별 구간(aptStart)으로 바로 찾는다
+ * - 행 [sortedSize, size) 는 이후 추가된 거래 (정렬 안 됨, 양이 적어 선형 스캔)
+ * - 행당 19바이트: 아파트 4 + 년월 4 + 일 1 + 가격(만원) 4 + 면적 4 + 층 2
+ * - 배열은 여유 용량을 두고 다음 세대와 공유한다. 각 스냅샷은 자기 size 까지만 읽으므로 추가 중에도 안전하다
+ */
+public final class DealColumns {
+    public static final short NO_FLOOR = Short.MIN_VALUE;
+
+    // 아파트 사전 (세대 간 공유, 뒤에만 추가)
+    private final String[] aptSeqs;
+    private final String[] dongCodes;
+    private final int aptCount;
+    private final Map<String, Integer> aptIndex;
+    // 정렬 구간의 아파트별 시작 행 (길이 = 정렬 당시 아파트 수 + 1)
+    private final int[] aptStart;
+
+    private final int[] apt;
+    private final int[] yyyymm;
+    private final byte[] day;
+    private final int[] price;
+    private final float[] area;
+    private final short[] floor;
+    private final int sortedSize;
+    private final int size;
+
+    private DealColumns(String[] aptSeqs, String[] dongCodes, int aptCount, Map<String, Integer> aptIndex,
+                        int[] aptStart, int[] apt, int[] yyyymm, byte[] day, int[] price, float[] area,
+                        short[] floor, int sortedSize, int size) {
+        this.aptSeqs = aptSeqs;
+        this.dongCodes = dongCodes;
+        this.aptCount = aptCount;
+        this.aptIndex = aptIndex;
+        this.aptStart = aptStart;
+        this.apt = apt;
+        this.yyyymm = yyyymm;
+        this.day = day;
+        this.price = price;
+        this.area = area;
+        this.floor = floor;
+        this.sortedSize = sortedSize;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int aptCount() {
+        return aptCount;
+    }
+
+    // 정렬되지 않은 추가 행 수
+    public int unsortedSize() {
+        return size - sortedSize;
+    }
+
+    // 아파트 번호, 없으면 -1
+    public int indexOf(String aptSeq) {
+        Integer a = aptSeq == null ? null : aptIndex.get(aptSeq);
+        return a == null || a >= aptCount ? -1 : a;
+    }
+
+    public String aptSeq(int a) {
+        return aptSeqs[a];
+    }
+
+    public String dongCode(int a) {
+        return dongCodes[a];
+    }
+
+    public int apt(int row) {
+        return apt[row];
+    }
+
+    public int yyyymm(int row) {
+        return yyyymm[row];
+    }
+
+    public int day(int row) {
+        return day[row];
+    }
+
+    // 거래가 (만원)
+    public int price(int row) {
+        return price[row];
+    }
+
+    // 전용면적 (㎡)
+    public float area(int row) {
+        return area[row];
+    }
+
+    // 층, 없으면 NO_FLOOR
+    public short floor(int row) {
+        return floor[row];
+    }
+
+    /**
+     * 한 아파트의 [fromYyyymm, toYyyymm] 거래 행 (정렬 구간은 거래일 순)
+     */
+    public void scanApartment(int a, int fromYyyymm, int toYyyymm, IntConsumer visitor) {
+        scanSorted(a, fromYyyymm, toYyyymm, visitor);
+        for (int r = sortedSize; r < size; r++) {
+            if (apt[r] == a && yyyymm[r] >= fromYyyymm && yyyymm[r] <= toYyyymm) {
+                visitor.accept(r);
+            }
+        }
+    }
+
+    /**
+     * 여러 아파트의 [fromYyyymm, toYyyymm] 거래 행 (추가 구간은 한 번만 훑는다)
+     */
+    public void scanApartments(int[] apts, int fromYyyymm, int toYyyymm, IntConsumer visitor) {
+        boolean[] selected = new boolean[aptCount];
+        for (int a : apts) {
+            selected[a] = true;
+            scanSorted(a, fromYyyymm, toYyyymm, visitor);
+        }
+        for (int r = sortedSize; r < size; r++) {
+            if (selected[apt[r]] && yyyymm[r] >= fromYyyymm && yyyymm[r] <= toYyyymm) {
+                visitor.accept(r);
+            }
+        }
+    }
+
+    private void scanSorted(int a, int fromYyyymm, int toYyyymm, IntConsumer visitor) {
+        if (a + 1 >= aptStart.length) {
+            return;
+        }
+        int end = aptStart[a + 1];
+        for (int r = lowerBound(aptStart[a], end, fromYyyymm); r < end && yyyymm[r] <= toYyyymm; r++) {
+            visitor.accept(r);
+        }
+    }
+
+    // [from, to) 에서 yyyymm >= value 인 첫 행
+    private int lowerBound(int from, int to, int value) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (yyyymm[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 거래 추가 - 새 세대 반환 (이 스냅샷은 그대로)
+     * - 여유 용량이 있으면 배열을 공유하고 뒤에 쓴다
+     * - 용량이 모자라거나 추가 구간이 커지면 전체를 다시 정렬한다
+     */
+    public DealColumns append(Builder rows) {
+        if (rows.size == 0) {
+            return this;
+        }
+        int unsorted = size - sortedSize + rows.size;
+        if (size + rows.size > apt.length || unsorted > Math.max(65_536, sortedSize / 8)) {
+            Builder all = toBuilder();
+            all.addAll(rows);
+            return all.build();
+        }
+
+        String[] seqs = aptSeqs;
+        String[] dongs = dongCodes;
+        int count = aptCount;
+        int n = size;
+        for (int i = 0; i < rows.size; i++) {
+            String seq = rows.aptSeqs[rows.apt[i]];
+            Integer a = aptIndex.get(seq);
+            if (a == null || a >= count) {
+                if (count == seqs.length) {
+                    seqs = Arrays.copyOf(seqs, count * 2 + 16);
+                    dongs = Arrays.copyOf(dongs, count * 2 + 16);
+                }
+                a = count++;
+                seqs[a] = seq;
+                dongs[a] = rows.dongCodes[rows.apt[i]];
+                aptIndex.put(seq, a);
+            }
+            apt[n] = a;
+            yyyymm[n] = rows.yyyymm[i];
+            day[n] = rows.day[i];
+            price[n] = rows.price[i];
+            area[n] = rows.area[i];
+            floor[n] = rows.floor[i];
+            n++;
+        }
+        return new DealColumns(seqs, dongs, count, aptIndex, aptStart,
+                apt, yyyymm, day, price, area, floor, sortedSize, n);
+    }
+
+    private Builder toBuilder() {
+        Builder builder = new Builder(size + size / 8);
+        for (int r = 0; r < size; r++) {
+            builder.add(aptSeqs[apt[r]], dongCodes[apt[r]], yyyymm[r], day[r], price[r], area[r], floor[r]);
+        }
+        return builder;
+    }
+
+    /**
+     * 적재용 버퍼 (추가 순서 무관, build() 에서 정렬)
+     */
+    public static final class Builder {
+        private final Map<String, Integer> aptIndex = new ConcurrentHashMap<>();
+        private String[] aptSeqs = new String[1024];
+        private String[] dongCodes = new String[1024];
+        private int aptCount;
+
+        private int[] apt;
+        private int[] yyyymm;
+        private byte[] day;
+        private int[] price;
+        private float[] area;
+        private short[] floor;
+        private int size;
+
+        private Builder() {
+            this(1024);
+        }
+
+        private Builder(int capacity) {
+            int c = Math.max(16, capacity);
+            apt = new int[c];
+            yyyymm = new int[c];
+            day = new byte[c];
+            price = new int[c];
+            area = new float[c];
+            floor = new short[c];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param dongCode 법정동 코드 (아파트 첫 등장 시에만 사용)
+         * @param price    거래가 (만원)
+         * @param floor    층, 없으면 NO_FLOOR
+         */
+        public Builder add(String aptSeq, String dongCode, int yyyymm, int day, int price, float area, int floor) {
+            Integer a = aptIndex.get(aptSeq);
+            if (a == null) {
+                if (aptCount == aptSeqs.length) {
+                    aptSeqs = Arrays.copyOf(aptSeqs, aptCount * 2);
+                    dongCodes = Arrays.copyOf(dongCodes, aptCount * 2);
+                }
+                a = aptCount++;
+                aptSeqs[a] = aptSeq;
+                dongCodes[a] = dongCode;
+                aptIndex.put(aptSeq, a);
+            }
+            if (size == this.apt.length) {
+                int c = size + (size >> 1);
+                this.apt = Arrays.copyOf(this.apt, c);
+                this.yyyymm = Arrays.copyOf(this.yyyymm, c);
+                this.day = Arrays.copyOf(this.day, c);
+                this.price = Arrays.copyOf(this.price, c);
+                this.area = Arrays.copyOf(this.area, c);
+                this.floor = Arrays.copyOf(this.floor, c);
+            }
+            this.apt[size] = a;
+            this.yyyymm[size] = yyyymm;
+            this.day[size] = (byte) day;
+            this.price[size] = price;
+            this.area[size] = area;
+            this.floor[size] = (short) floor;
+            size++;
+            return this;
+        }
+
+        private void addAll(Builder other) {
+            for (int i = 0; i < other.size; i++) {
+                int a = other.apt[i];
+                add(other.aptSeqs[a], other.dongCodes[a], other.yyyymm[i], other.day[i],
+                        other.price[i], other.area[i], other.floor[i]);
+            }
+        }
+
+        // (아파트, 거래일) 순으로 정렬한 스냅샷 생성
+        public DealColumns build() {
+            int n = size;
+            int[] aptStart = new int[aptCount + 1];
+            for (int r = 0; r < n; r++) {
+                aptStart[apt[r] + 1]++;
+            }
+            for (int a = 0; a < aptCount; a++) {
+                aptStart[a + 1] += aptStart[a];
+            }
+
+            // 아파트별 counting sort 후 구간마다 (거래일 << 32 | 행) 정렬
+            long[] order = new long[n];
+            int[] cursor = Arrays.copyOf(aptStart, aptCount);
+            for (int r = 0; r < n; r++) {
+                long dateKey = yyyymm[r] * 100L + day[r];
+                order[cursor[apt[r]]++] = (dateKey << 32) | r;
+            }
+            for (int a = 0; a < aptCount; a++) {
+                Arrays.sort(order, aptStart[a], aptStart[a + 1]);
+            }
+
+            int capacity = n + Math.max(1024, n / 8);
+            int[] sApt = new int[capacity];
+            int[] sYyyymm = new int[capacity];
+            byte[] sDay = new byte[capacity];
+            int[] sPrice = new int[capacity];
+            float[] sArea = new float[capacity];
+            short[] sFloor = new short[capacity];
+            for (int i = 0; i < n; i++) {
+                int r = (int) order[i];
+                sApt[i] = apt[r];
+                sYyyymm[i] = yyyymm[r];
+                sDay[i] = day[r];
+                sPrice[i] = price[r];
+                sArea[i] = area[r];
+                sFloor[i] = floor[r];
+            }
+            int aptCapacity = aptCount + Math.max(64, aptCount / 8);
+            return new DealColumns(Arrays.copyOf(aptSeqs, aptCapacity), Arrays.copyOf(dongCodes, aptCapacity),
+                    aptCount, aptIndex, aptStart, sApt, sYyyymm, sDay, sPrice, sArea, sFloor, n, n);
+        }
+    }
+}
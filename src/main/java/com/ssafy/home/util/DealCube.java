@@ -0,0 +1,301 @@
+package com.ssafy.home.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지역 x 년월 x 평형 구간 거래가 큐브 (통계 조회용 사전 집계)
+ * - 지역 코드: 법정동 코드 접두어 "" (전국), 2자리 (시도), 5자리 (구군), 10자리 (동)
+ * - 셀: (yyyymm, 평형 = 전용면적 / 3.3) 별 건수/합/최소/최대/제곱합 - 서로 더할 수 있다
+ * - 지역별 셀 묶음(Cells)은 (yyyymm, 평형) 순으로 정렬된 불변 배열, 기간 조회는 이진 탐색 후 구간만 훑는다
+ * - 동 셀을 먼저 만들고 구군/시도/전국은 하위 셀을 합쳐 만든다
+ * - 갱신(merge)은 한 스레드에서만, 조회는 지역 단위로 항상 완성된 Cells 를 본다
+ */
+public final class DealCube {
+    // 평형 구간 상한 (이보다 크면 마지막 구간)
+    public static final int MAX_SIZE_BUCKET = 1000;
+    private static final int BUCKET_BITS = 10;
+    // (yyyymm << BUCKET_BITS) 가 int 를 넘지 않는 상한
+    private static final int MAX_YYYYMM = 999912;
+
+    private final Map<String, Cells> regions = new ConcurrentHashMap<>();
+
+    private DealCube() {
+    }
+
+    // 큐브로 답할 수 있는 지역 코드인지 (없거나 2/5/10자리)
+    public static boolean supports(String areaCode) {
+        int length = areaCode == null ? 0 : areaCode.length();
+        return length == 0 || length == 2 || length == 5 || length == 10;
+    }
+
+    // 전용면적 -> 평형 구간
+    public static int bucketOf(float area) {
+        return Math.max(0, Math.min(MAX_SIZE_BUCKET, (int) Math.floor(area / 3.3)));
+    }
+
+    public int regionCount() {
+        return regions.size();
+    }
+
+    /**
+     * 지역의 [fromYyyymm, toYyyymm] x [minBucket, maxBucket] 셀 방문 ((yyyymm, 평형) 순)
+     */
+    public void scan(String areaCode, int fromYyyymm, int toYyyymm, int minBucket, int maxBucket, CellVisitor visitor) {
+        Cells cells = regions.get(areaCode == null ? "" : areaCode);
+        if (cells == null) {
+            return;
+        }
+        int to = key(Math.min(toYyyymm, MAX_YYYYMM), MAX_SIZE_BUCKET);
+        for (int i = cells.lowerBound(key(Math.max(fromYyyymm, 0), 0)); i < cells.size() && cells.keys[i] <= to; i++) {
+            int bucket = cells.bucket(i);
+            if (bucket >= minBucket && bucket <= maxBucket) {
+                visitor.accept(cells, i);
+            }
+        }
+    }
+
+    /**
+     * 다른 큐브(증분)의 셀을 더한다 - 바뀐 지역만 새 Cells 로 교체
+     */
+    public void merge(DealCube delta) {
+        for (Map.Entry<String, Cells> entry : delta.regions.entrySet()) {
+            Cells current = regions.get(entry.getKey());
+            regions.put(entry.getKey(), current == null ? entry.getValue() : Cells.merge(List.of(current, entry.getValue())));
+        }
+    }
+
+    /**
+     * 열 저장소 스냅샷 전체로 큐브 생성 (법정동 코드가 없는 아파트 거래 제외)
+     */
+    public static DealCube build(DealColumns columns) {
+        // 아파트 -> 동 번호
+        Map<String, Integer> dongIndex = new HashMap<>();
+        List<String> dongCodes = new ArrayList<>();
+        int[] dongOfApt = new int[columns.aptCount()];
+        for (int a = 0; a < columns.aptCount(); a++) {
+            String code = columns.dongCode(a);
+            if (code == null || code.length() != 10) {
+                dongOfApt[a] = -1;
+                continue;
+            }
+            dongOfApt[a] = dongIndex.computeIfAbsent(code, c -> {
+                dongCodes.add(c);
+                return dongCodes.size() - 1;
+            });
+        }
+
+        // 동별 counting sort 로 행 묶기
+        int dongs = dongCodes.size();
+        int[] start = new int[dongs + 1];
+        for (int r = 0; r < columns.size(); r++) {
+            int d = dongOfApt[columns.apt(r)];
+            if (d >= 0) {
+                start[d + 1]++;
+            }
+        }
+        for (int d = 0; d < dongs; d++) {
+            start[d + 1] += start[d];
+        }
+        int[] rows = new int[start[dongs]];
+        int[] cursor = Arrays.copyOf(start, dongs);
+        for (int r = 0; r < columns.size(); r++) {
+            int d = dongOfApt[columns.apt(r)];
+            if (d >= 0) {
+                rows[cursor[d]++] = r;
+            }
+        }
+
+        DealCube cube = new DealCube();
+        for (int d = 0; d < dongs; d++) {
+            cube.regions.put(dongCodes.get(d), Cells.of(columns, rows, start[d], start[d + 1]));
+        }
+        cube.rollUp(dongCodes);
+        return cube;
+    }
+
+    // 동 -> 구군 -> 시도 -> 전국 순으로 하위 셀을 합친다
+    private void rollUp(List<String> dongCodes) {
+        List<String> guguns = rollUpLevel(dongCodes, 5);
+        List<String> sidos = rollUpLevel(guguns, 2);
+        rollUpLevel(sidos, 0);
+    }
+
+    private List<String> rollUpLevel(List<String> childCodes, int prefixLength) {
+        Map<String, List<Cells>> parents = new TreeMap<>();
+        for (String code : childCodes) {
+            parents.computeIfAbsent(code.substring(0, prefixLength), p -> new ArrayList<>()).add(regions.get(code));
+        }
+        for (Map.Entry<String, List<Cells>> entry : parents.entrySet()) {
+            regions.put(entry.getKey(), Cells.merge(entry.getValue()));
+        }
+        return new ArrayList<>(parents.keySet());
+    }
+
+    private static int key(int yyyymm, int bucket) {
+        return (yyyymm << BUCKET_BITS) | bucket;
+    }
+
+    @FunctionalInterface
+    public interface CellVisitor {
+        void accept(Cells cells, int i);
+    }
+
+    /**
+     * 한 지역의 셀 묶음 ((yyyymm, 평형) 순 정렬, 불변)
+     */
+    public static final class Cells {
+        private final int[] keys;
+        private final int[] count;
+        private final long[] sum;
+        private final int[] min;
+        private final int[] max;
+        private final double[] sumSquares;
+
+        private Cells(int n) {
+            keys = new int[n];
+            count = new int[n];
+            sum = new long[n];
+            min = new int[n];
+            max = new int[n];
+            sumSquares = new double[n];
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public int yyyymm(int i) {
+            return keys[i] >>> BUCKET_BITS;
+        }
+
+        public int bucket(int i) {
+            return keys[i] & ((1 << BUCKET_BITS) - 1);
+        }
+
+        public int count(int i) {
+            return count[i];
+        }
+
+        public long sum(int i) {
+            return sum[i];
+        }
+
+        public int min(int i) {
+            return min[i];
+        }
+
+        public int max(int i) {
+            return max[i];
+        }
+
+        public double sumSquares(int i) {
+            return sumSquares[i];
+        }
+
+        private int lowerBound(int key) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // 행 rows[from, to) 를 (키 << 32 | 행) 정렬 후 같은 키끼리 집계
+        private static Cells of(DealColumns columns, int[] rows, int from, int to) {
+            long[] order = new long[to - from];
+            for (int i = from; i < to; i++) {
+                int r = rows[i];
+                order[i - from] = ((long) key(columns.yyyymm(r), bucketOf(columns.area(r))) << 32) | r;
+            }
+            Arrays.sort(order);
+            Cells cells = new Cells(distinctKeys(order));
+            int c = -1;
+            int previous = -1;
+            for (long packed : order) {
+                int key = (int) (packed >>> 32);
+                int price = columns.price((int) packed);
+                if (c < 0 || key != previous) {
+                    c++;
+                    cells.keys[c] = key;
+                    cells.min[c] = price;
+                    cells.max[c] = price;
+                    previous = key;
+                }
+                cells.count[c]++;
+                cells.sum[c] += price;
+                cells.min[c] = Math.min(cells.min[c], price);
+                cells.max[c] = Math.max(cells.max[c], price);
+                cells.sumSquares[c] += (double) price * price;
+            }
+            return cells;
+        }
+
+        // 여러 셀 묶음을 키별로 합친다
+        private static Cells merge(List<Cells> parts) {
+            int total = 0;
+            for (Cells part : parts) {
+                total += part.size();
+            }
+            // (키 << 32 | 부분 번호 << 24 | 셀 번호) - 부분 256개 이하, 셀 1600만 개 이하씩 묶어 정렬
+            if (parts.size() > 256) {
+                List<Cells> grouped = new ArrayList<>();
+                for (int i = 0; i < parts.size(); i += 256) {
+                    grouped.add(merge(parts.subList(i, Math.min(i + 256, parts.size()))));
+                }
+                return merge(grouped);
+            }
+            long[] order = new long[total];
+            int n = 0;
+            for (int p = 0; p < parts.size(); p++) {
+                Cells part = parts.get(p);
+                for (int i = 0; i < part.size(); i++) {
+                    order[n++] = ((long) part.keys[i] << 32) | ((long) p << 24) | i;
+                }
+            }
+            Arrays.sort(order);
+            Cells merged = new Cells(distinctKeys(order));
+            int c = -1;
+            int previous = -1;
+            for (long packed : order) {
+                int key = (int) (packed >>> 32);
+                Cells part = parts.get((int) ((packed >>> 24) & 0xFF));
+                int i = (int) (packed & 0xFFFFFF);
+                if (c < 0 || key != previous) {
+                    c++;
+                    merged.keys[c] = key;
+                    merged.min[c] = part.min[i];
+                    merged.max[c] = part.max[i];
+                    previous = key;
+                }
+                merged.count[c] += part.count[i];
+                merged.sum[c] += part.sum[i];
+                merged.min[c] = Math.min(merged.min[c], part.min[i]);
+                merged.max[c] = Math.max(merged.max[c], part.max[i]);
+                merged.sumSquares[c] += part.sumSquares[i];
+            }
+            return merged;
+        }
+
+        private static int distinctKeys(long[] sorted) {
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || (sorted[i] >>> 32) != (sorted[i - 1] >>> 32)) {
+                    distinct++;
+                }
+            }
+            return distinct;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.ssafy.home.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 점 데이터용 정적 Packed Hilbert R-tree
+ * - 항목을 힐베르트 곡선 순서로 정렬한 뒤 nodeSize 개씩 묶어 상위 노드를 만든다
+ * - 모든 노드를 primitive 배열에 담아 검색 시 객체 할당이 없다
+ * - 생성 후 변경 불가, 데이터가 바뀌면 새로 만들어 교체한다
+ */
+public class HilbertRTree {
+    private static final int DEFAULT_NODE_SIZE = 16;
+    private static final int HILBERT_MAX = (1 << 15) - 1;
+
+    private final int numItems;
+    private final int nodeSize;
+    // 노드 i 의 박스 = boxes[4i .. 4i+3] (minX, minY, maxX, maxY)
+    private final double[] boxes;
+    // 리프 레벨이면 원본 항목 번호, 상위 레벨이면 첫 번째 자식 노드 번호
+    private final int[] ids;
+    // 각 레벨의 끝(exclusive) 노드 번호
+    private final int[] levelEnds;
+
+    public HilbertRTree(double[] xs, double[] ys) {
+        this(xs, ys, DEFAULT_NODE_SIZE);
+    }
+
+    public HilbertRTree(double[] xs, double[] ys, int nodeSize) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs, ys 길이가 다릅니다.");
+        }
+        this.numItems = xs.length;
+        this.nodeSize = Math.max(2, nodeSize);
+
+        // 레벨별 노드 수 계산
+        int n = numItems;
+        int total = n;
+        int[] ends = new int[32];
+        int levels = 0;
+        ends[levels++] = total;
+        while (n > 1) {
+            n = (n + this.nodeSize - 1) / this.nodeSize;
+            total += n;
+            ends[levels++] = total;
+        }
+        this.levelEnds = Arrays.copyOf(ends, levels);
+        this.boxes = new double[total * 4];
+        this.ids = new int[total];
+
+        if (numItems == 0) {
+            return;
+        }
+
+        // 전체 영역 계산
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < numItems; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        double width = maxX - minX == 0 ? 1 : maxX - minX;
+        double height = maxY - minY == 0 ? 1 : maxY - minY;
+
+        // (힐베르트 값 << 32 | 항목 번호)로 정렬
+        long[] keys = new long[numItems];
+        for (int i = 0; i < numItems; i++) {
+            int hx = (int) (HILBERT_MAX * (xs[i] - minX) / width);
+            int hy = (int) (HILBERT_MAX * (ys[i] - minY) / height);
+            keys[i] = (hilbert(hx, hy) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        // 리프 레벨
+        for (int i = 0; i < numItems; i++) {
+            int item = (int) keys[i];
+            ids[i] = item;
+            int b = i * 4;
+            boxes[b] = xs[item];
+            boxes[b + 1] = ys[item];
+            boxes[b + 2] = xs[item];
+            boxes[b + 3] = ys[item];
+        }
+
+        // 상위 레벨
+        int pos = numItems;
+        for (int level = 0; level < levelEnds.length - 1; level++) {
+            int start = level == 0 ? 0 : levelEnds[level - 1];
+            int end = levelEnds[level];
+            for (int child = start; child < end; child += this.nodeSize) {
+                int childEnd = Math.min(child + this.nodeSize, end);
+                double nMinX = Double.POSITIVE_INFINITY, nMinY = Double.POSITIVE_INFINITY;
+                double nMaxX = Double.NEGATIVE_INFINITY, nMaxY = Double.NEGATIVE_INFINITY;
+                for (int c = child; c < childEnd; c++) {
+                    int b = c * 4;
+                    nMinX = Math.min(nMinX, boxes[b]);
+                    nMinY = Math.min(nMinY, boxes[b + 1]);
+                    nMaxX = Math.max(nMaxX, boxes[b + 2]);
+                    nMaxY = Math.max(nMaxY, boxes[b + 3]);
+                }
+                int b = pos * 4;
+                boxes[b] = nMinX;
+                boxes[b + 1] = nMinY;
+                boxes[b + 2] = nMaxX;
+                boxes[b + 3] = nMaxY;
+                ids[pos] = child;
+                pos++;
+            }
+        }
+    }
+
+    public int size() {
+        return numItems;
+    }
+
+    /**
+     * 사각형 영역과 겹치는 항목 번호를 visitor 로 전달
+     */
+    public void search(double minX, double minY, double maxX, double maxY, IntConsumer visitor) {
+        if (numItems == 0) {
+            return;
+        }
+        int[] stack = new int[16];
+        int top = 0;
+        int node = ids.length - 1;
+
+        while (true) {
+            int end = Math.min(node + nodeSize, levelEnd(node));
+            for (int i = node; i < end; i++) {
+                int b = i * 4;
+                if (maxX < boxes[b] || maxY < boxes[b + 1] || minX > boxes[b + 2] || minY > boxes[b + 3]) {
+                    continue;
+                }
+                if (node < numItems) {
+                    visitor.accept(ids[i]);
+                } else {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = ids[i];
+                }
+            }
+            if (top == 0) {
+                return;
+            }
+            node = stack[--top];
+        }
+    }
+
+    /**
+     * (x, y) 에서 가까운 순으로 최대 k 개 항목 번호 반환 (best-first 탐색)
+     * - 거리는 x 축에 xScale 을 곱한 평면 유클리드 거리 (경위도라면 xScale = cos(위도))
+     * - 지금까지 찾은 k 개 중 가장 먼 거리보다 먼 노드는 큐에 넣지 않으므로 큐 크기는 k 에 비례한다
+     *
+     * @param maxDistance 이보다 먼 항목은 제외 (제한 없으면 Double.POSITIVE_INFINITY)
+     */
+    public int[] nearest(double x, double y, int k, double maxDistance, double xScale) {
+        if (numItems == 0 || k <= 0) {
+            return new int[0];
+        }
+        double maxDistanceSq = maxDistance * maxDistance;
+        // 탐색 후보 (가까운 순), 리프 항목은 ~위치 로 표시
+        DistanceHeap queue = new DistanceHeap(false, 64);
+        // 지금까지 본 가장 가까운 k 개 항목 (먼 순)
+        DistanceHeap best = new DistanceHeap(true, k + 1);
+        int[] result = new int[k];
+        int found = 0;
+        int node = ids.length - 1;
+
+        while (true) {
+            int end = Math.min(node + nodeSize, levelEnd(node));
+            for (int i = node; i < end; i++) {
+                double d = boxDistanceSq(i, x, y, xScale);
+                if (d > maxDistanceSq || (best.size == k && d > best.peekDistance())) {
+                    continue;
+                }
+                if (node < numItems) {
+                    queue.push(d, ~i);
+                    best.push(d, i);
+                    if (best.size > k) {
+                        best.pop();
+                    }
+                } else {
+                    queue.push(d, ids[i]);
+                }
+            }
+
+            node = -1;
+            while (queue.size > 0) {
+                double d = queue.peekDistance();
+                int entry = queue.pop();
+                if (entry < 0) {
+                    result[found++] = ids[~entry];
+                    if (found == k) {
+                        return result;
+                    }
+                } else if (best.size < k || d <= best.peekDistance()) {
+                    node = entry;
+                    break;
+                }
+            }
+            if (node < 0) {
+                return Arrays.copyOf(result, found);
+            }
+        }
+    }
+
+    // 노드 i 의 박스와 (x, y) 사이 최소 거리의 제곱
+    private double boxDistanceSq(int i, double x, double y, double xScale) {
+        int b = i * 4;
+        double dx = Math.max(0, Math.max(boxes[b] - x, x - boxes[b + 2])) * xScale;
+        double dy = Math.max(0, Math.max(boxes[b + 1] - y, y - boxes[b + 3]));
+        return dx * dx + dy * dy;
+    }
+
+    private int levelEnd(int node) {
+        for (int end : levelEnds) {
+            if (node < end) {
+                return end;
+            }
+        }
+        return ids.length;
+    }
+
+    // 2^15 x 2^15 격자 위 (x, y)의 힐베르트 곡선 거리
+    static long hilbert(int x, int y) {
+        int n = 1 << 15;
+        long d = 0;
+        for (int s = n >> 1; s > 0; s >>= 1) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = n - 1 - x;
+                    y = n - 1 - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+
+    // (거리, 번호) 이진 힙 - max 가 true 면 최대 힙
+    private static final class DistanceHeap {
+        private final boolean max;
+        private double[] distances;
+        private int[] values;
+        private int size;
+
+        private DistanceHeap(boolean max, int capacity) {
+            this.max = max;
+            this.distances = new double[capacity];
+            this.values = new int[capacity];
+        }
+
+        private double peekDistance() {
+            return distances[0];
+        }
+
+        private void push(double distance, int value) {
+            if (size == values.length) {
+                distances = Arrays.copyOf(distances, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >> 1;
+                if (!before(distance, distances[parent])) {
+                    break;
+                }
+                distances[i] = distances[parent];
+                values[i] = values[parent];
+                i = parent;
+            }
+            distances[i] = distance;
+            values[i] = value;
+        }
+
+        private int pop() {
+            int top = values[0];
+            size--;
+            if (size > 0) {
+                double distance = distances[size];
+                int value = values[size];
+                int i = 0;
+                int half = size >> 1;
+                while (i < half) {
+                    int child = 2 * i + 1;
+                    if (child + 1 < size && before(distances[child + 1], distances[child])) {
+                        child++;
+                    }
+                    if (!before(distances[child], distance)) {
+                        break;
+                    }
+                    distances[i] = distances[child];
+                    values[i] = values[child];
+                    i = child;
+                }
+                distances[i] = distance;
+                values[i] = value;
+            }
+            return top;
+        }
+
+        private boolean before(double a, double b) {
+            return max ? a > b : a < b;
+        }
+    }
+}
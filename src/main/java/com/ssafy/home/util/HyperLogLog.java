@@ -0,0 +1,174 @@
+package com.ssafy.home.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 서로 다른 원소 수 추정용 HyperLogLog (정밀도 12: 레지스터 4096개, 표준 오차 약 1.6%, 스레드 안전하지 않음)
+ * - 원소가 적을 때는 (레지스터 번호, 순위) 정렬 배열(sparse)로 두고, SPARSE_LIMIT 를 넘으면 byte 레지스터(dense)로 바꾼다
+ * - 합집합(merge)은 레지스터별 최댓값이라 지역/기간을 자유롭게 합칠 수 있다
+ * - 작은 추정치는 linear counting 으로 보정 (sparse 구간에서는 사실상 정확)
+ */
+public final class HyperLogLog {
+    private static final int PRECISION = 12;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final int SPARSE_LIMIT = REGISTERS / 8;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    // sparse: (레지스터 번호 << 8 | 순위) 를 번호 순으로, dense 가 되면 null
+    private int[] sparse = new int[8];
+    private int sparseSize;
+    private byte[] dense;
+
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        set(index, rank);
+    }
+
+    // 문자열 원소 추가 (FNV-1a 64 + murmur3 fmix64)
+    public void add(String value) {
+        add(hash(value));
+    }
+
+    // 합집합 (other 는 바뀌지 않음)
+    public void merge(HyperLogLog other) {
+        if (other.dense != null) {
+            for (int i = 0; i < REGISTERS; i++) {
+                if (other.dense[i] != 0) {
+                    set(i, other.dense[i]);
+                }
+            }
+        } else {
+            for (int i = 0; i < other.sparseSize; i++) {
+                set(other.sparse[i] >>> 8, other.sparse[i] & 0xFF);
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        if (dense != null) {
+            for (byte register : dense) {
+                sum += 1.0 / (1L << register);
+                zeros += register == 0 ? 1 : 0;
+            }
+        } else {
+            zeros = REGISTERS - sparseSize;
+            sum = zeros;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += 1.0 / (1L << (sparse[i] & 0xFF));
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    private void set(int index, int rank) {
+        if (dense != null) {
+            if (rank > dense[index]) {
+                dense[index] = (byte) rank;
+            }
+            return;
+        }
+        int at = findSparse(index);
+        if (at >= 0) {
+            if (rank > (sparse[at] & 0xFF)) {
+                sparse[at] = (index << 8) | rank;
+            }
+            return;
+        }
+        if (sparseSize == SPARSE_LIMIT) {
+            toDense();
+            set(index, rank);
+            return;
+        }
+        int insert = -at - 1;
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(SPARSE_LIMIT, sparse.length * 2));
+        }
+        System.arraycopy(sparse, insert, sparse, insert + 1, sparseSize - insert);
+        sparse[insert] = (index << 8) | rank;
+        sparseSize++;
+    }
+
+    // 레지스터 번호 위치, 없으면 -(삽입 위치) - 1
+    private int findSparse(int index) {
+        int lo = 0;
+        int hi = sparseSize - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midIndex = sparse[mid] >>> 8;
+            if (midIndex < index) {
+                lo = mid + 1;
+            } else if (midIndex > index) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -lo - 1;
+    }
+
+    private void toDense() {
+        dense = new byte[REGISTERS];
+        for (int i = 0; i < sparseSize; i++) {
+            dense[sparse[i] >>> 8] = (byte) (sparse[i] & 0xFF);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+
+    // sparse: [0][개수][항목...], dense: [1][레지스터 4096]
+    public byte[] toBytes() {
+        if (dense != null) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + REGISTERS);
+            buffer.put((byte) 1);
+            buffer.put(dense);
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(5 + sparseSize * 4);
+        buffer.put((byte) 0);
+        buffer.putInt(sparseSize);
+        for (int i = 0; i < sparseSize; i++) {
+            buffer.putInt(sparse[i]);
+        }
+        return buffer.array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        HyperLogLog hll = new HyperLogLog();
+        if (buffer.get() == 1) {
+            hll.sparse = null;
+            hll.dense = new byte[REGISTERS];
+            buffer.get(hll.dense);
+            return hll;
+        }
+        int size = buffer.getInt();
+        hll.sparse = new int[Math.max(8, size)];
+        for (int i = 0; i < size; i++) {
+            hll.sparse[i] = buffer.getInt();
+        }
+        hll.sparseSize = size;
+        return hll;
+    }
+
+    public static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
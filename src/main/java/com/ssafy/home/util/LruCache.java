@@ -0,0 +1,60 @@
+package com.ssafy.home.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한 LRU 캐시 (스레드 안전)
+ * - maxEntries 를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ */
+public class LruCache<K, V> {
+    private final Map<K, V> map;
+
+    public LruCache(int maxEntries) {
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    // 없으면 loader 로 만들어 저장 (loader 는 락 밖에서 실행)
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void removeIf(Predicate<K> predicate) {
+        map.keySet().removeIf(predicate);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
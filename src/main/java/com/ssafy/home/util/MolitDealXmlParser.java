@@ -0,0 +1,159 @@
+package com.ssafy.home.util;
+
+import com.ssafy.home.domain.HouseDeal;
+import lombok.Getter;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 국토교통부 아파트 매매 실거래가(RTMSDataSvcAptTrade) XML 응답 파서 (StAX)
+ * - 응답 전체를 DOM 으로 올리지 않고 item 하나씩 HouseDeal 로 바꿔 sink 에 넘긴다
+ * - 영문 태그(aptSeq, dealAmount ...)와 예전 한글 태그(아파트, 거래금액 ...)를 모두 읽는다
+ *   (한글 태그 응답에는 aptSeq 가 없어 법정동/지번을 함께 읽고, 적재 시 houseinfos 에서 아파트를 찾는다)
+ * - 해제된 거래(cdealType = O)는 건너뛰고 cancelled 로 센다
+ * - 공공데이터포털 오류 응답(OpenAPI_ServiceResponse)은 returnReasonCode/returnAuthMsg 를 결과 코드로 읽는다
+ */
+public final class MolitDealXmlParser {
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private MolitDealXmlParser() {
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티/DTD 차단 (XXE)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * 응답 한 페이지를 읽어 거래를 sink 로 전달
+     *
+     * @return 응답 헤더/페이지 정보와 건수
+     */
+    public static Page parse(InputStream in, Consumer<HouseDeal> sink) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in, "UTF-8");
+        Page page = new Page();
+        try {
+            HouseDeal deal = null;
+            boolean cancelled = false;
+            String tag = null;
+            StringBuilder text = new StringBuilder();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    tag = reader.getLocalName();
+                    text.setLength(0);
+                    if (tag.equals("item")) {
+                        deal = new HouseDeal();
+                        cancelled = false;
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    if (tag != null) {
+                        text.append(reader.getText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    String value = text.toString().trim();
+                    if (name.equals("item")) {
+                        if (cancelled) {
+                            page.cancelled++;
+                        } else if (deal != null) {
+                            page.items++;
+                            sink.accept(deal);
+                        }
+                        deal = null;
+                    } else if (deal != null) {
+                        cancelled |= name.equals("cdealType") && value.equals("O");
+                        setField(deal, name, value);
+                    } else {
+                        setHeader(page, name, value);
+                    }
+                    tag = null;
+                    text.setLength(0);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return page;
+    }
+
+    private static void setField(HouseDeal deal, String name, String value) {
+        if (value.isEmpty()) {
+            return;
+        }
+        switch (name) {
+            case "aptSeq" -> deal.setAptSeq(value);
+            case "법정동" -> deal.setUmdNm(value);
+            case "지번" -> deal.setJibun(value);
+            case "aptNm", "아파트" -> deal.setAptNm(value);
+            case "aptDong" -> deal.setAptDong(value);
+            case "floor", "층" -> deal.setFloor(value);
+            case "dealYear", "년" -> deal.setDealYear(parseInt(value));
+            case "dealMonth", "월" -> deal.setDealMonth(parseInt(value));
+            case "dealDay", "일" -> deal.setDealDay(parseInt(value));
+            case "excluUseAr", "전용면적" -> deal.setExcluUseAr(parseDouble(value));
+            case "dealAmount", "거래금액" -> deal.setDealAmount(value);
+            default -> {
+                // 사용하지 않는 필드
+            }
+        }
+    }
+
+    private static void setHeader(Page page, String name, String value) {
+        switch (name) {
+            case "resultCode", "returnReasonCode" -> page.resultCode = value;
+            case "resultMsg", "returnAuthMsg" -> page.resultMsg = value;
+            case "totalCount" -> page.totalCount = parseInt(value);
+            case "pageNo" -> page.pageNo = parseInt(value);
+            case "numOfRows" -> page.numOfRows = parseInt(value);
+            default -> {
+                // 사용하지 않는 필드
+            }
+        }
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 응답 한 페이지의 헤더/건수
+     */
+    @Getter
+    public static final class Page {
+        private String resultCode;
+        private String resultMsg;
+        private int totalCount;
+        private int pageNo;
+        private int numOfRows;
+        // sink 로 넘긴 거래 수 / 해제되어 건너뛴 거래 수
+        private int items;
+        private int cancelled;
+
+        // 정상 응답 여부 (resultCode 00 또는 000, 인증 오류 등은 returnReasonCode 로 온다)
+        public boolean isSuccess() {
+            return "00".equals(resultCode) || "000".equals(resultCode);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ssafy.home.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile (v2) 포인트 레이어 인코더
+ * - 외부 protobuf 라이브러리 없이 스펙의 필드 번호대로 직접 직렬화한다
+ * - 지원 값 타입: String, 정수(uint/sint), double
+ */
+public class MvtEncoder {
+    public static final int DEFAULT_EXTENT = 4096;
+    public static final String CONTENT_TYPE = "application/vnd.mapbox-vector-tile";
+
+    private final List<Layer> layers = new ArrayList<>();
+
+    public Layer layer(String name) {
+        Layer layer = new Layer(name, DEFAULT_EXTENT);
+        layers.add(layer);
+        return layer;
+    }
+
+    public byte[] encode() {
+        ProtoWriter tile = new ProtoWriter();
+        for (Layer layer : layers) {
+            if (!layer.features.isEmpty()) {
+                tile.writeBytes(3, layer.encode());
+            }
+        }
+        return tile.toByteArray();
+    }
+
+    public static class Layer {
+        private final String name;
+        private final int extent;
+        private final Map<String, Integer> keys = new LinkedHashMap<>();
+        private final Map<Object, Integer> values = new LinkedHashMap<>();
+        private final List<byte[]> features = new ArrayList<>();
+
+        private Layer(String name, int extent) {
+            this.name = name;
+            this.extent = extent;
+        }
+
+        public int extent() {
+            return extent;
+        }
+
+        /**
+         * 포인트 피처 추가
+         *
+         * @param x, y 타일 내 좌표 (0 ~ extent)
+         */
+        public void addPoint(long id, int x, int y, Map<String, Object> properties) {
+            ProtoWriter feature = new ProtoWriter();
+            feature.writeVarintField(1, id);
+
+            List<Long> tags = new ArrayList<>(properties.size() * 2);
+            for (Map.Entry<String, Object> e : properties.entrySet()) {
+                if (e.getValue() == null) {
+                    continue;
+                }
+                tags.add((long) keys.computeIfAbsent(e.getKey(), k -> keys.size()));
+                tags.add((long) values.computeIfAbsent(e.getValue(), v -> values.size()));
+            }
+            feature.writePackedVarints(2, tags);
+            feature.writeVarintField(3, 1); // GeomType.POINT
+
+            List<Long> geometry = new ArrayList<>(3);
+            geometry.add((long) ((1 & 0x7) | (1 << 3))); // MoveTo, count 1
+            geometry.add(zigZag(x));
+            geometry.add(zigZag(y));
+            feature.writePackedVarints(4, geometry);
+
+            features.add(feature.toByteArray());
+        }
+
+        private byte[] encode() {
+            ProtoWriter layer = new ProtoWriter();
+            layer.writeVarintField(15, 2); // version
+            layer.writeString(1, name);
+            for (byte[] feature : features) {
+                layer.writeBytes(2, feature);
+            }
+            for (String key : keys.keySet()) {
+                layer.writeString(3, key);
+            }
+            for (Object value : values.keySet()) {
+                layer.writeBytes(4, encodeValue(value));
+            }
+            layer.writeVarintField(5, extent);
+            return layer.toByteArray();
+        }
+
+        private static byte[] encodeValue(Object value) {
+            ProtoWriter v = new ProtoWriter();
+            if (value instanceof String s) {
+                v.writeString(1, s);
+            } else if (value instanceof Double d) {
+                v.writeDouble(3, d);
+            } else if (value instanceof Number n) {
+                long l = n.longValue();
+                if (l >= 0) {
+                    v.writeVarintField(5, l); // uint_value
+                } else {
+                    v.writeVarintField(6, zigZag(l)); // sint_value
+                }
+            } else {
+                v.writeString(1, String.valueOf(value));
+            }
+            return v.toByteArray();
+        }
+    }
+
+    private static long zigZag(long n) {
+        return (n << 1) ^ (n >> 63);
+    }
+
+    // 최소한의 protobuf 직렬화기
+    private static class ProtoWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void writeVarintField(int field, long value) {
+            writeVarint(((long) field << 3));
+            writeVarint(value);
+        }
+
+        void writeString(int field, String value) {
+            writeBytes(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeBytes(int field, byte[] bytes) {
+            writeVarint(((long) field << 3) | 2);
+            writeVarint(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        void writeDouble(int field, double value) {
+            writeVarint(((long) field << 3) | 1);
+            long bits = Double.doubleToLongBits(value);
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (bits >>> (8 * i)) & 0xff);
+            }
+        }
+
+        void writePackedVarints(int field, List<Long> values) {
+            ProtoWriter packed = new ProtoWriter();
+            for (long v : values) {
+                packed.writeVarint(v);
+            }
+            writeBytes(field, packed.toByteArray());
+        }
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.ssafy.home.util;
+
+/**
+ * 단순 다각형 내부 판정 (crossing number)
+ * - 꼭짓점/변 정보를 primitive 배열로 미리 계산해 contains() 는 객체 할당이 없다
+ * - 외접 사각형을 수평 띠로 나누고 띠마다 걸치는 변만 검사하므로 꼭짓점이 수백 개여도 빠르다
+ */
+public class Polygon {
+    private static final int MAX_BANDS = 1024;
+
+    private final double[] xs;
+    private final double[] ys;
+    // 변 i (꼭짓점 i -> i+1) 의 dx/dy
+    private final double[] inverseSlopes;
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+    private final int bands;
+    private final double bandHeight;
+    // 띠 b 에 걸친 변 번호 = bandEdges[bandOffsets[b] .. bandOffsets[b+1])
+    private final int[] bandOffsets;
+    private final int[] bandEdges;
+
+    /**
+     * @param xs 꼭짓점 x (경도), 닫는 점(첫 점 반복)은 있어도 없어도 된다
+     * @param ys 꼭짓점 y (위도)
+     */
+    public Polygon(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("xs, ys 길이가 다릅니다.");
+        }
+        int n = xs.length;
+        if (n > 1 && xs[0] == xs[n - 1] && ys[0] == ys[n - 1]) {
+            n--;
+        }
+        if (n < 3) {
+            throw new IllegalArgumentException("다각형은 꼭짓점이 3개 이상이어야 합니다.");
+        }
+        this.xs = new double[n];
+        this.ys = new double[n];
+        System.arraycopy(xs, 0, this.xs, 0, n);
+        System.arraycopy(ys, 0, this.ys, 0, n);
+
+        double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+        this.inverseSlopes = new double[n];
+        for (int i = 0; i < n; i++) {
+            int j = i + 1 == n ? 0 : i + 1;
+            x0 = Math.min(x0, this.xs[i]);
+            y0 = Math.min(y0, this.ys[i]);
+            x1 = Math.max(x1, this.xs[i]);
+            y1 = Math.max(y1, this.ys[i]);
+            double dy = this.ys[j] - this.ys[i];
+            inverseSlopes[i] = dy == 0 ? 0 : (this.xs[j] - this.xs[i]) / dy;
+        }
+        this.minX = x0;
+        this.minY = y0;
+        this.maxX = x1;
+        this.maxY = y1;
+
+        // 띠별 변 목록 (CSR)
+        this.bands = Math.max(1, Math.min(n, MAX_BANDS));
+        this.bandHeight = (maxY - minY) / bands;
+        int[] counts = new int[bands + 1];
+        for (int i = 0; i < n; i++) {
+            int j = i + 1 == n ? 0 : i + 1;
+            int from = band(Math.min(this.ys[i], this.ys[j]));
+            int to = band(Math.max(this.ys[i], this.ys[j]));
+            for (int b = from; b <= to; b++) {
+                counts[b + 1]++;
+            }
+        }
+        for (int b = 0; b < bands; b++) {
+            counts[b + 1] += counts[b];
+        }
+        this.bandOffsets = counts.clone();
+        this.bandEdges = new int[counts[bands]];
+        int[] cursor = counts;
+        for (int i = 0; i < n; i++) {
+            int j = i + 1 == n ? 0 : i + 1;
+            int from = band(Math.min(this.ys[i], this.ys[j]));
+            int to = band(Math.max(this.ys[i], this.ys[j]));
+            for (int b = from; b <= to; b++) {
+                bandEdges[cursor[b]++] = i;
+            }
+        }
+    }
+
+    public double minX() {
+        return minX;
+    }
+
+    public double minY() {
+        return minY;
+    }
+
+    public double maxX() {
+        return maxX;
+    }
+
+    public double maxY() {
+        return maxY;
+    }
+
+    public int vertexCount() {
+        return xs.length;
+    }
+
+    // (x, y) 가 다각형 내부인지 (경계 위의 점은 어느 쪽으로든 판정될 수 있음)
+    public boolean contains(double x, double y) {
+        if (x < minX || x > maxX || y < minY || y > maxY) {
+            return false;
+        }
+        int n = xs.length;
+        int b = band(y);
+        boolean inside = false;
+        for (int k = bandOffsets[b]; k < bandOffsets[b + 1]; k++) {
+            int i = bandEdges[k];
+            int j = i + 1 == n ? 0 : i + 1;
+            if ((ys[i] > y) != (ys[j] > y) && x < xs[i] + (y - ys[i]) * inverseSlopes[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private int band(double y) {
+        if (bandHeight <= 0) {
+            return 0;
+        }
+        int b = (int) ((y - minY) / bandHeight);
+        return Math.max(0, Math.min(bands - 1, b));
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.home.util;
+
+/**
+ * 지역 x 년월 거래가 분위수 스케치 (t-digest, 보관/병합은 RegionMonthSketches)
+ * - 구군/월 묶음의 거래가로 digest 를 만든다
+ * - 조회 시 기간 내 월 스케치를 합쳐 분위수를 구한다
+ */
+public final class PriceSketches {
+    private static final RegionMonthSketches.Codec<TDigest> CODEC = new RegionMonthSketches.Codec<>(
+            TDigest::new, TDigest::fromBytes, TDigest::toBytes, TDigest::merge);
+
+    private final RegionMonthSketches<TDigest> sketches;
+
+    private PriceSketches(RegionMonthSketches<TDigest> sketches) {
+        this.sketches = sketches;
+    }
+
+    // 스케치로 답할 수 있는 지역 코드인지 (없거나 2/5자리)
+    public static boolean supports(String areaCode) {
+        return RegionMonthSketches.supports(areaCode);
+    }
+
+    public int sketchCount() {
+        return sketches.sketchCount();
+    }
+
+    /**
+     * 지역의 [fromYyyymm, toYyyymm] 월 스케치를 합친 digest (거래가 없으면 빈 digest)
+     */
+    public TDigest merged(String areaCode, int fromYyyymm, int toYyyymm) {
+        return sketches.combined(areaCode, fromYyyymm, toYyyymm);
+    }
+
+    /**
+     * 다른 스케치 묶음(증분)을 더한다
+     */
+    public void merge(PriceSketches delta) {
+        sketches.merge(delta.sketches);
+    }
+
+    /**
+     * 열 저장소 스냅샷 전체로 스케치 생성 (법정동 코드가 없는 아파트 거래 제외)
+     */
+    public static PriceSketches build(DealColumns columns) {
+        return new PriceSketches(RegionMonthSketches.build(columns, CODEC, columns::price, TDigest::add));
+    }
+}
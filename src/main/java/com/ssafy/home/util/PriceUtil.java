@@ -0,0 +1,28 @@
+package com.ssafy.home.util;
+
+public class PriceUtil {
+
+    // "12,345" 형태의 거래금액(만원)을 숫자로 변환, 변환 불가 시 -1
+    public static long parseDealAmount(String dealAmount) {
+        if (dealAmount == null) {
+            return -1;
+        }
+        long value = 0;
+        boolean hasDigit = false;
+        for (int i = 0; i < dealAmount.length(); i++) {
+            char ch = dealAmount.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                value = value * 10 + (ch - '0');
+                hasDigit = true;
+            } else if (ch != ',' && ch != ' ') {
+                return -1;
+            }
+        }
+        return hasDigit ? value : -1;
+    }
+
+    // 거래일을 yyyymmdd 정수로 변환 (비교용)
+    public static int toDealDate(int year, int month, int day) {
+        return year * 10000 + month * 100 + day;
+    }
+}
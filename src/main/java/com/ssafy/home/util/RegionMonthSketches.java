@@ -0,0 +1,165 @@
+package com.ssafy.home.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 지역 x 년월 스케치 묶음 (PriceSketches, ComplexSketches 공통 저장소)
+ * - 지역 코드: "" (전국), 2자리 (시도), 5자리 (구군) - 동 단위는 호출 측에서 직접 계산
+ * - 스케치는 직렬화 바이트로 보관하고, 스케치 종류별 변환/병합은 Codec 으로 받는다
+ * - 구군 스케치를 거래로 만들고 시도/전국은 구군 스케치를 병합해 만든다
+ * - 갱신(merge)은 한 스레드에서만, 조회는 (지역, 월) 단위로 항상 완성된 스케치를 본다
+ */
+final class RegionMonthSketches<S> {
+    private final Codec<S> codec;
+    private final Map<String, NavigableMap<Integer, byte[]>> regions = new ConcurrentHashMap<>();
+
+    private RegionMonthSketches(Codec<S> codec) {
+        this.codec = codec;
+    }
+
+    // 스케치로 답할 수 있는 지역 코드인지 (없거나 2/5자리)
+    static boolean supports(String areaCode) {
+        int length = areaCode == null ? 0 : areaCode.length();
+        return length == 0 || length == 2 || length == 5;
+    }
+
+    int sketchCount() {
+        int count = 0;
+        for (NavigableMap<Integer, byte[]> months : regions.values()) {
+            count += months.size();
+        }
+        return count;
+    }
+
+    /**
+     * 지역의 [fromYyyymm, toYyyymm] 월 스케치를 병합 (거래가 없으면 빈 스케치)
+     */
+    S combined(String areaCode, int fromYyyymm, int toYyyymm) {
+        S result = codec.empty.get();
+        NavigableMap<Integer, byte[]> months = regions.get(areaCode == null ? "" : areaCode);
+        if (months != null && fromYyyymm <= toYyyymm) {
+            for (byte[] sketch : months.subMap(fromYyyymm, true, toYyyymm, true).values()) {
+                codec.merge.accept(result, codec.fromBytes.apply(sketch));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 다른 스케치 묶음(증분)을 더한다 - 바뀐 (지역, 월) 만 새 바이트로 교체
+     */
+    void merge(RegionMonthSketches<S> delta) {
+        for (Map.Entry<String, NavigableMap<Integer, byte[]>> region : delta.regions.entrySet()) {
+            NavigableMap<Integer, byte[]> months = regions.computeIfAbsent(region.getKey(), c -> new ConcurrentSkipListMap<>());
+            for (Map.Entry<Integer, byte[]> month : region.getValue().entrySet()) {
+                byte[] current = months.get(month.getKey());
+                if (current == null) {
+                    months.put(month.getKey(), month.getValue());
+                } else {
+                    S sketch = codec.fromBytes.apply(current);
+                    codec.merge.accept(sketch, codec.fromBytes.apply(month.getValue()));
+                    months.put(month.getKey(), codec.toBytes.apply(sketch));
+                }
+            }
+        }
+    }
+
+    /**
+     * 열 저장소 스냅샷 전체로 스케치 생성 (법정동 코드가 없는 아파트 거래 제외)
+     * - 행을 (구군, 월, 행 값) 하나의 long 으로 정렬해 구군/월 묶음마다 스케치를 하나씩만 만든다
+     *
+     * @param value 행마다 스케치에 넣을 32비트 값 (거래가, 아파트 번호 등)
+     * @param feed  묶음의 스케치에 값을 하나씩 넣는다 (값 순으로 호출)
+     */
+    static <S> RegionMonthSketches<S> build(DealColumns columns, Codec<S> codec,
+                                            IntToLongFunction value, ObjLongConsumer<S> feed) {
+        Map<String, Integer> gugunIndex = new HashMap<>();
+        List<String> guguns = new ArrayList<>();
+        int[] gugunOfApt = new int[columns.aptCount()];
+        for (int a = 0; a < columns.aptCount(); a++) {
+            String code = columns.dongCode(a);
+            if (code == null || code.length() != 10) {
+                gugunOfApt[a] = -1;
+                continue;
+            }
+            gugunOfApt[a] = gugunIndex.computeIfAbsent(code.substring(0, 5), c -> {
+                guguns.add(c);
+                return guguns.size() - 1;
+            });
+        }
+
+        // (구군 16비트 | 월 번호 16비트 | 행 값 32비트)
+        long[] keys = new long[columns.size()];
+        int n = 0;
+        for (int r = 0; r < columns.size(); r++) {
+            int g = gugunOfApt[columns.apt(r)];
+            if (g >= 0 && YearMonthIndex.isValid(columns.yyyymm(r))) {
+                keys[n++] = ((long) g << 48) | ((long) YearMonthIndex.of(columns.yyyymm(r)) << 32)
+                        | (value.applyAsLong(r) & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(keys, 0, n);
+
+        RegionMonthSketches<S> sketches = new RegionMonthSketches<>(codec);
+        Map<String, Map<Integer, S>> upper = new TreeMap<>();
+        int from = 0;
+        while (from < n) {
+            long group = keys[from] >>> 32;
+            S sketch = codec.empty.get();
+            int to = from;
+            for (; to < n && (keys[to] >>> 32) == group; to++) {
+                feed.accept(sketch, keys[to] & 0xFFFFFFFFL);
+            }
+            String gugun = guguns.get((int) (group >>> 16));
+            int yyyymm = YearMonthIndex.toYyyymm((int) (group & 0xFFFF));
+            sketches.put(gugun, yyyymm, sketch);
+            // 시도/전국은 구군 스케치를 병합
+            codec.merge.accept(upper.computeIfAbsent(gugun.substring(0, 2), c -> new HashMap<>())
+                    .computeIfAbsent(yyyymm, m -> codec.empty.get()), sketch);
+            codec.merge.accept(upper.computeIfAbsent("", c -> new HashMap<>())
+                    .computeIfAbsent(yyyymm, m -> codec.empty.get()), sketch);
+            from = to;
+        }
+        for (Map.Entry<String, Map<Integer, S>> region : upper.entrySet()) {
+            for (Map.Entry<Integer, S> month : region.getValue().entrySet()) {
+                sketches.put(region.getKey(), month.getKey(), month.getValue());
+            }
+        }
+        return sketches;
+    }
+
+    private void put(String code, int yyyymm, S sketch) {
+        regions.computeIfAbsent(code, c -> new ConcurrentSkipListMap<>()).put(yyyymm, codec.toBytes.apply(sketch));
+    }
+
+    /**
+     * 스케치 종류별 생성/직렬화/병합
+     */
+    static final class Codec<S> {
+        private final Supplier<S> empty;
+        private final Function<byte[], S> fromBytes;
+        private final Function<S, byte[]> toBytes;
+        // (대상, 더할 스케치) - 더할 스케치는 바뀌지 않아야 한다
+        private final BiConsumer<S, S> merge;
+
+        Codec(Supplier<S> empty, Function<byte[], S> fromBytes, Function<S, byte[]> toBytes, BiConsumer<S, S> merge) {
+            this.empty = empty;
+            this.fromBytes = fromBytes;
+            this.toBytes = toBytes;
+            this.merge = merge;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.home.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 최신 거래 변경분을 지역(동 > 구군 > 시도)별 가격 합/아파트 수 증감으로 모은다
+ * - 동 코드 10자리: 구군 = 앞 5자리 + 00000, 시도 = 앞 2자리 + 00000000
+ * - 가격이 없던(또는 없어진) 아파트는 아파트 수에서도 빠진다
+ * - 코드 순으로 정렬해 두어 행 잠금 순서가 항상 같다
+ */
+public final class RegionPriceDeltas {
+    // 지역 코드 -> {가격 합 증감, 아파트 수 증감}
+    private final Map<String, long[]> deltas = new TreeMap<>();
+
+    /**
+     * @param previousPrice 이전 최신 거래가(만원), 없으면 음수
+     * @param currentPrice  새 최신 거래가(만원), 없으면 음수
+     */
+    public void change(String dongCode, long previousPrice, long currentPrice) {
+        if (dongCode == null || dongCode.length() != 10) {
+            return;
+        }
+        long sum = Math.max(currentPrice, 0) - Math.max(previousPrice, 0);
+        long count = (currentPrice >= 0 ? 1 : 0) - (previousPrice >= 0 ? 1 : 0);
+        if (sum == 0 && count == 0) {
+            return;
+        }
+        for (String code : rollUp(dongCode)) {
+            long[] delta = deltas.computeIfAbsent(code, c -> new long[2]);
+            delta[0] += sum;
+            delta[1] += count;
+        }
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    // 바뀐 지역 코드 (정렬 순)
+    public List<String> codes() {
+        return new ArrayList<>(deltas.keySet());
+    }
+
+    public long sumDelta(String code) {
+        long[] delta = deltas.get(code);
+        return delta == null ? 0 : delta[0];
+    }
+
+    public long countDelta(String code) {
+        long[] delta = deltas.get(code);
+        return delta == null ? 0 : delta[1];
+    }
+
+    // 동 코드가 속한 지역 코드 (동, 구군, 시도 - 같은 코드는 한 번만)
+    static List<String> rollUp(String dongCode) {
+        List<String> codes = new ArrayList<>(3);
+        codes.add(dongCode);
+        String gugun = dongCode.substring(0, 5) + "00000";
+        if (!codes.contains(gugun)) {
+            codes.add(gugun);
+        }
+        String sido = dongCode.substring(0, 2) + "00000000";
+        if (!codes.contains(sido)) {
+            codes.add(sido);
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,363 @@
+package com.ssafy.home.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 구군별 반복매매 가격 지수 (Case-Shiller 방식)
+ * - 같은 아파트, 비슷한 전용면적(같은 평면)의 연이은 두 거래를 한 쌍으로 본다
+ * - ln(나중 가격 / 먼저 가격) = β(나중 월) - β(먼저 월) 을 3단계 가중 회귀로 푼다
+ *   1) OLS, 2) 잔차 제곱을 보유 기간(개월)에 회귀해 분산 모형, 3) 분산 역수로 가중한 WLS
+ * - 지수 = 100 x exp(β), 구군 첫 달 β = 0 (기준 100)
+ * - 쌍이 없는 달은 인접 월 차이 벌점(SMOOTHING)으로 이웃 달 사이를 잇는다
+ * - 구군끼리는 독립이라 ForkJoinPool 에서 구군 단위로 나눠 계산한다
+ */
+public final class RepeatSalesIndex {
+    // 같은 평면으로 보는 전용면적 차이 (0.01㎡ 단위, 1㎡)
+    private static final int AREA_TOLERANCE_CENTI = 100;
+    // 두 거래가 비율이 이보다 벌어진 쌍은 입력 오류/리모델링으로 보고 제외 (4배)
+    private static final double MAX_LOG_RATIO = Math.log(4);
+    // 구군 지수를 내기 위한 최소 반복 거래 쌍 수
+    public static final int MIN_PAIRS = 30;
+    // 인접 월 차이 벌점 (평균 가중치 대비)
+    private static final double SMOOTHING = 0.01;
+    // 분산 모형 하한 (잔차 제곱 평균 대비) - 음수/0 분산 방지
+    private static final double MIN_VARIANCE_RATIO = 0.1;
+
+    private RepeatSalesIndex() {
+    }
+
+    /**
+     * 열 저장소 스냅샷 전체로 구군별 지수 계산 (법정동 코드가 없는 아파트 거래 제외, 쌍이 MIN_PAIRS 미만인 구군 제외)
+     */
+    public static Map<String, Series> compute(DealColumns columns, ForkJoinPool pool) {
+        // 아파트 -> 구군 번호
+        Map<String, Integer> gugunIndex = new HashMap<>();
+        List<String> guguns = new ArrayList<>();
+        List<List<Integer>> aptsOfGugun = new ArrayList<>();
+        for (int a = 0; a < columns.aptCount(); a++) {
+            String code = columns.dongCode(a);
+            if (code == null || code.length() != 10) {
+                continue;
+            }
+            int g = gugunIndex.computeIfAbsent(code.substring(0, 5), c -> {
+                guguns.add(c);
+                aptsOfGugun.add(new ArrayList<>());
+                return guguns.size() - 1;
+            });
+            aptsOfGugun.get(g).add(a);
+        }
+
+        // 아파트별 counting sort 로 행 묶기 (추가 구간까지 한 번에)
+        int[] start = new int[columns.aptCount() + 1];
+        for (int r = 0; r < columns.size(); r++) {
+            start[columns.apt(r) + 1]++;
+        }
+        for (int a = 0; a < columns.aptCount(); a++) {
+            start[a + 1] += start[a];
+        }
+        int[] rows = new int[columns.size()];
+        int[] cursor = Arrays.copyOf(start, columns.aptCount());
+        for (int r = 0; r < columns.size(); r++) {
+            rows[cursor[columns.apt(r)]++] = r;
+        }
+
+        Series[] results = new Series[guguns.size()];
+        pool.invoke(new GugunTask(columns, rows, start, guguns, aptsOfGugun, results, 0, guguns.size()));
+
+        Map<String, Series> series = new TreeMap<>();
+        for (Series s : results) {
+            if (s != null) {
+                series.put(s.areaCode, s);
+            }
+        }
+        return series;
+    }
+
+    // 구군 범위를 반으로 나눠 fork, 하나 남으면 직접 계산
+    private static final class GugunTask extends RecursiveAction {
+        private final DealColumns columns;
+        private final int[] rows;
+        private final int[] start;
+        private final List<String> guguns;
+        private final List<List<Integer>> aptsOfGugun;
+        private final Series[] results;
+        private final int from;
+        private final int to;
+
+        private GugunTask(DealColumns columns, int[] rows, int[] start, List<String> guguns,
+                          List<List<Integer>> aptsOfGugun, Series[] results, int from, int to) {
+            this.columns = columns;
+            this.rows = rows;
+            this.start = start;
+            this.guguns = guguns;
+            this.aptsOfGugun = aptsOfGugun;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int g = from; g < to; g++) {
+                    Pairs pairs = new Pairs();
+                    for (int a : aptsOfGugun.get(g)) {
+                        collectPairs(columns, rows, start[a], start[a + 1], pairs);
+                    }
+                    results[g] = fit(guguns.get(g), pairs);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GugunTask(columns, rows, start, guguns, aptsOfGugun, results, from, mid),
+                    new GugunTask(columns, rows, start, guguns, aptsOfGugun, results, mid, to));
+        }
+    }
+
+    /**
+     * 한 아파트의 행 rows[from, to) 에서 반복 거래 쌍 추출
+     * - (면적, 거래일, 순번) 을 long 하나로 정렬 -> 면적 차이 AREA_TOLERANCE 이내끼리 묶음 -> 묶음 안에서 거래일 순 연이은 두 거래
+     * - 같은 달 거래끼리는 지수 차이가 없어 건너뛴다
+     */
+    static void collectPairs(DealColumns columns, int[] rows, int from, int to, Pairs pairs) {
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        // 면적(0.01㎡) 16비트 | yyyymmdd 27비트 | 순번 20비트
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            int r = rows[from + i];
+            long areaCenti = Math.max(0, Math.min(0xFFFF, Math.round(columns.area(r) * 100)));
+            long date = columns.yyyymm(r) * 100L + columns.day(r);
+            keys[i] = (areaCenti << 47) | (date << 20) | i;
+        }
+        Arrays.sort(keys);
+
+        long[] group = new long[n];
+        int g = 0;
+        while (g < n) {
+            long groupArea = keys[g] >>> 47;
+            int end = g;
+            int size = 0;
+            for (; end < n && (keys[end] >>> 47) - groupArea <= AREA_TOLERANCE_CENTI; end++) {
+                group[size++] = keys[end] & ((1L << 47) - 1);
+            }
+            Arrays.sort(group, 0, size);
+            for (int k = 1; k < size; k++) {
+                int first = rows[from + (int) (group[k - 1] & 0xFFFFF)];
+                int second = rows[from + (int) (group[k] & 0xFFFFF)];
+                int s = YearMonthIndex.of(columns.yyyymm(first));
+                int t = YearMonthIndex.of(columns.yyyymm(second));
+                if (t <= s || columns.price(first) <= 0 || columns.price(second) <= 0) {
+                    continue;
+                }
+                double y = Math.log((double) columns.price(second) / columns.price(first));
+                if (Math.abs(y) <= MAX_LOG_RATIO) {
+                    pairs.add(s, t, y);
+                }
+            }
+            g = end;
+        }
+    }
+
+    /**
+     * 3단계 가중 회귀로 월별 지수 추정, 쌍이 MIN_PAIRS 미만이면 null
+     */
+    static Series fit(String areaCode, Pairs pairs) {
+        if (pairs.size < MIN_PAIRS) {
+            return null;
+        }
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (int p = 0; p < pairs.size; p++) {
+            first = Math.min(first, pairs.first[p]);
+            last = Math.max(last, pairs.second[p]);
+        }
+        int months = last - first + 1;
+
+        // 1단계: OLS
+        double[] weights = new double[pairs.size];
+        Arrays.fill(weights, 1);
+        double[] beta = solve(pairs, first, months, weights);
+
+        // 2단계: 잔차 제곱 = a + b x 보유 개월 (OLS)
+        double meanGap = 0;
+        double meanSquare = 0;
+        double[] squares = new double[pairs.size];
+        for (int p = 0; p < pairs.size; p++) {
+            double e = pairs.logRatio[p] - (beta[pairs.second[p] - first] - beta[pairs.first[p] - first]);
+            squares[p] = e * e;
+            meanGap += pairs.second[p] - pairs.first[p];
+            meanSquare += squares[p];
+        }
+        meanGap /= pairs.size;
+        meanSquare /= pairs.size;
+        if (meanSquare > 0) {
+            double covariance = 0;
+            double variance = 0;
+            for (int p = 0; p < pairs.size; p++) {
+                double gap = pairs.second[p] - pairs.first[p] - meanGap;
+                covariance += gap * (squares[p] - meanSquare);
+                variance += gap * gap;
+            }
+            double slope = variance > 0 ? covariance / variance : 0;
+            double intercept = meanSquare - slope * meanGap;
+            for (int p = 0; p < pairs.size; p++) {
+                double modeled = intercept + slope * (pairs.second[p] - pairs.first[p]);
+                weights[p] = 1 / Math.max(modeled, meanSquare * MIN_VARIANCE_RATIO);
+            }
+            // 3단계: 분산 역수 가중 WLS
+            beta = solve(pairs, first, months, weights);
+        }
+
+        double[] index = new double[months];
+        for (int m = 0; m < months; m++) {
+            index[m] = 100 * Math.exp(beta[m]);
+        }
+        return new Series(areaCode, first, index, pairs.size);
+    }
+
+    /**
+     * 정규 방정식 (X'WX + λD'D) β = X'Wy 를 Cholesky 로 푼다 (β[0] = 0 고정, 반환 배열은 months 칸)
+     * - X: 쌍마다 나중 월 +1, 먼저 월 -1, D: 인접 월 차이
+     */
+    private static double[] solve(Pairs pairs, int first, int months, double[] weights) {
+        int n = months - 1;
+        double[] beta = new double[months];
+        if (n == 0) {
+            return beta;
+        }
+        double[][] a = new double[n][n];
+        double[] b = new double[n];
+        double totalWeight = 0;
+        for (int p = 0; p < pairs.size; p++) {
+            int i = pairs.first[p] - first - 1;
+            int j = pairs.second[p] - first - 1;
+            double w = weights[p];
+            double wy = w * pairs.logRatio[p];
+            totalWeight += w;
+            if (i >= 0) {
+                a[i][i] += w;
+                b[i] -= wy;
+            }
+            a[j][j] += w;
+            b[j] += wy;
+            if (i >= 0) {
+                a[i][j] -= w;
+                a[j][i] -= w;
+            }
+        }
+        double lambda = SMOOTHING * totalWeight / pairs.size;
+        for (int m = 0; m < n; m++) {
+            a[m][m] += lambda;
+            if (m > 0) {
+                a[m - 1][m - 1] += lambda;
+                a[m][m - 1] -= lambda;
+                a[m - 1][m] -= lambda;
+            }
+        }
+
+        // a = L L' (하삼각에 덮어쓴다)
+        for (int j = 0; j < n; j++) {
+            double diagonal = a[j][j];
+            for (int k = 0; k < j; k++) {
+                diagonal -= a[j][k] * a[j][k];
+            }
+            a[j][j] = Math.sqrt(diagonal);
+            for (int i = j + 1; i < n; i++) {
+                double value = a[i][j];
+                for (int k = 0; k < j; k++) {
+                    value -= a[i][k] * a[j][k];
+                }
+                a[i][j] = value / a[j][j];
+            }
+        }
+        // L z = b, L' x = z
+        for (int i = 0; i < n; i++) {
+            double value = b[i];
+            for (int k = 0; k < i; k++) {
+                value -= a[i][k] * b[k];
+            }
+            b[i] = value / a[i][i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double value = b[i];
+            for (int k = i + 1; k < n; k++) {
+                value -= a[k][i] * b[k];
+            }
+            b[i] = value / a[i][i];
+        }
+        System.arraycopy(b, 0, beta, 1, n);
+        return beta;
+    }
+
+    // 반복 거래 쌍 (먼저 월, 나중 월 = 월 번호, 로그 가격 비)
+    static final class Pairs {
+        private int[] first = new int[64];
+        private int[] second = new int[64];
+        private double[] logRatio = new double[64];
+        private int size;
+
+        void add(int firstMonth, int secondMonth, double y) {
+            if (size == first.length) {
+                first = Arrays.copyOf(first, size * 2);
+                second = Arrays.copyOf(second, size * 2);
+                logRatio = Arrays.copyOf(logRatio, size * 2);
+            }
+            first[size] = firstMonth;
+            second[size] = secondMonth;
+            logRatio[size] = y;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 한 구군의 월별 지수 (불변)
+     */
+    public static final class Series {
+        private final String areaCode;
+        private final int firstMonthIndex;
+        private final double[] index;
+        private final int pairCount;
+
+        private Series(String areaCode, int firstMonthIndex, double[] index, int pairCount) {
+            this.areaCode = areaCode;
+            this.firstMonthIndex = firstMonthIndex;
+            this.index = index;
+            this.pairCount = pairCount;
+        }
+
+        public String areaCode() {
+            return areaCode;
+        }
+
+        // 지수 달 수 (첫 달 ~ 마지막 달)
+        public int size() {
+            return index.length;
+        }
+
+        public int yyyymm(int i) {
+            return YearMonthIndex.toYyyymm(firstMonthIndex + i);
+        }
+
+        public double index(int i) {
+            return index[i];
+        }
+
+        public int pairCount() {
+            return pairCount;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ssafy.home.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 분위수 추정용 t-digest (merging 방식, 스레드 안전하지 않음)
+ * - 값을 버퍼에 모았다가 평균 순으로 정렬해 centroid 로 합친다 (k1 척도: 양 끝 분위수일수록 작은 centroid)
+ * - 같은 compression 의 digest 끼리 merge 해도 정확도가 유지된다 (지역/기간 합산용)
+ * - centroid 수는 대략 compression 의 1.5배 이하, 직렬화 크기는 28 + centroid x 12 바이트
+ */
+public final class TDigest {
+    public static final double DEFAULT_COMPRESSION = 100;
+    private static final int BUFFER_FACTOR = 5;
+
+    private final double compression;
+    private double[] mean = new double[0];
+    private double[] weight = new double[0];
+    private int centroids;
+
+    private double[] bufferMean;
+    private double[] bufferWeight;
+    private int buffered;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public TDigest(double compression) {
+        this.compression = compression;
+    }
+
+    public void add(double x) {
+        add(x, 1);
+    }
+
+    public void add(double x, double w) {
+        if (bufferMean == null) {
+            int size = (int) (compression * BUFFER_FACTOR);
+            bufferMean = new double[size];
+            bufferWeight = new double[size];
+        }
+        if (buffered == bufferMean.length) {
+            compress();
+        }
+        bufferMean[buffered] = x;
+        bufferWeight[buffered] = w;
+        buffered++;
+        totalWeight += w;
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+    }
+
+    // 다른 digest 의 centroid 와 아직 합치지 않은 버퍼를 더한다 (other 는 압축하지 않고 읽기만 한다)
+    public void merge(TDigest other) {
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.mean[i], other.weight[i]);
+        }
+        for (int i = 0; i < other.buffered; i++) {
+            add(other.bufferMean[i], other.bufferWeight[i]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return Math.round(totalWeight);
+    }
+
+    public int centroidCount() {
+        compress();
+        return centroids;
+    }
+
+    /**
+     * q 분위수 추정 (0~1), 비어 있으면 NaN
+     * - 인접 centroid 중심 사이를 선형 보간, 양 끝은 min/max 까지 보간
+     */
+    public double quantile(double q) {
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return mean[0];
+        }
+        double index = q * totalWeight;
+        if (index <= 0) {
+            return min;
+        }
+        if (index >= totalWeight) {
+            return max;
+        }
+        double firstCenter = weight[0] / 2;
+        if (index < firstCenter) {
+            return min + (mean[0] - min) * index / firstCenter;
+        }
+        double cumulative = 0;
+        for (int i = 0; i < centroids - 1; i++) {
+            double center = cumulative + weight[i] / 2;
+            double nextCenter = cumulative + weight[i] + weight[i + 1] / 2;
+            if (index < nextCenter) {
+                return mean[i] + (mean[i + 1] - mean[i]) * (index - center) / (nextCenter - center);
+            }
+            cumulative += weight[i];
+        }
+        int last = centroids - 1;
+        double lastCenter = totalWeight - weight[last] / 2;
+        return mean[last] + (max - mean[last]) * (index - lastCenter) / (totalWeight - lastCenter);
+    }
+
+    // 버퍼를 기존 centroid 와 합쳐 다시 묶는다
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        Integer[] order = new Integer[buffered];
+        for (int i = 0; i < buffered; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(bufferMean[a], bufferMean[b]));
+
+        // 정렬된 기존 centroid 와 버퍼를 평균 순으로 병합
+        int n = centroids + buffered;
+        double[] m = new double[n];
+        double[] w = new double[n];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < n; k++) {
+            if (j >= buffered || (i < centroids && mean[i] <= bufferMean[order[j]])) {
+                m[k] = mean[i];
+                w[k] = weight[i++];
+            } else {
+                m[k] = bufferMean[order[j]];
+                w[k] = bufferWeight[order[j++]];
+            }
+        }
+
+        // 이웃 centroid 를 척도 차이 1 이하까지 합친다
+        int c = 0;
+        double soFar = 0;
+        for (int k = 1; k < n; k++) {
+            double proposed = w[c] + w[k];
+            if (scale((soFar + proposed) / totalWeight) - scale(soFar / totalWeight) <= 1) {
+                m[c] += (m[k] - m[c]) * w[k] / proposed;
+                w[c] = proposed;
+            } else {
+                soFar += w[c];
+                c++;
+                m[c] = m[k];
+                w[c] = w[k];
+            }
+        }
+        centroids = c + 1;
+        mean = Arrays.copyOf(m, centroids);
+        weight = Arrays.copyOf(w, centroids);
+        buffered = 0;
+    }
+
+    // k1 척도 함수
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(Math.max(-1, Math.min(1, 2 * q - 1)));
+    }
+
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer buffer = ByteBuffer.allocate(28 + centroids * 12);
+        buffer.putDouble(compression);
+        buffer.putDouble(min);
+        buffer.putDouble(max);
+        buffer.putInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            buffer.putDouble(mean[i]);
+            buffer.putInt((int) Math.round(weight[i]));
+        }
+        return buffer.array();
+    }
+
+    public static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        TDigest digest = new TDigest(buffer.getDouble());
+        digest.min = buffer.getDouble();
+        digest.max = buffer.getDouble();
+        int n = buffer.getInt();
+        digest.mean = new double[n];
+        digest.weight = new double[n];
+        for (int i = 0; i < n; i++) {
+            digest.mean[i] = buffer.getDouble();
+            digest.weight[i] = buffer.getInt();
+            digest.totalWeight += digest.weight[i];
+        }
+        digest.centroids = n;
+        return digest;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.home.util;
+
+/**
+ * Web Mercator(EPSG:3857) 좌표 변환
+ * - 월드 픽셀 좌표: 줌 z 에서 전 세계가 256 * 2^z 픽셀
+ */
+public class TileMath {
+    public static final int TILE_SIZE = 256;
+    public static final int MAX_ZOOM = 20;
+    private static final double MAX_LAT = 85.05112878;
+
+    public static double worldSize(int zoom) {
+        return (double) TILE_SIZE * (1L << zoom);
+    }
+
+    public static double lngToWorldX(double lng, int zoom) {
+        return (lng + 180.0) / 360.0 * worldSize(zoom);
+    }
+
+    public static double latToWorldY(double lat, int zoom) {
+        double clamped = Math.max(-MAX_LAT, Math.min(MAX_LAT, lat));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return (0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI)) * worldSize(zoom);
+    }
+
+    public static double worldXToLng(double x, int zoom) {
+        return x / worldSize(zoom) * 360.0 - 180.0;
+    }
+
+    public static double worldYToLat(double y, int zoom) {
+        double n = Math.PI - 2 * Math.PI * y / worldSize(zoom);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    // 카카오맵 레벨(1~14, 클수록 축소)을 Web Mercator 줌으로 변환
+    public static int zoomFromKakaoLevel(int level) {
+        return clampZoom(20 - level);
+    }
+
+    public static int clampZoom(int zoom) {
+        return Math.max(0, Math.min(MAX_ZOOM, zoom));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ssafy.home.util;
+
+/**
+ * yyyymm <-> 연속 월 번호 (0년 1월 = 0, 5460년까지 16비트에 들어간다)
+ * - 월 차이 계산과 월 단위 정렬 키에 쓴다
+ */
+public final class YearMonthIndex {
+
+    private YearMonthIndex() {
+    }
+
+    public static int of(int yyyymm) {
+        return (yyyymm / 100) * 12 + (yyyymm % 100 - 1);
+    }
+
+    public static int toYyyymm(int monthIndex) {
+        return (monthIndex / 12) * 100 + monthIndex % 12 + 1;
+    }
+
+    // 월 부분이 1~12 인지
+    public static boolean isValid(int yyyymm) {
+        int month = yyyymm % 100;
+        return month >= 1 && month <= 12;
+    }
+}
@@ -0,0 +1,33 @@
+-- 지역별 평균가 증분 유지용 누계 컬럼
+-- avg_price = price_sum / apt_count 를 유지하고, 최신 거래가 바뀔 때 바뀐 지역(동/구군/시도) 행만 갱신한다
+-- 아래 UPDATE 는 최초 1회 전체 누계를 채운다 (이후에는 애플리케이션이 증분 갱신)
+
+ALTER TABLE `dong_code_superman` ADD COLUMN `price_sum` BIGINT DEFAULT NULL AFTER `avg_price`;
+
+UPDATE dong_code_superman d
+    LEFT JOIN (
+        SELECT t.code,
+               SUM(t.price) AS price_sum,
+               COUNT(*)     AS apt_count
+        FROM (
+                 SELECT CONCAT(hi.sgg_cd, hi.umd_cd) AS code, lh.price
+                 FROM houseinfos hi
+                          JOIN latest_housedeals lh ON hi.apt_seq = lh.apt_seq
+                 WHERE lh.price IS NOT NULL
+                 UNION ALL
+                 SELECT CONCAT(hi.sgg_cd, '00000'), lh.price
+                 FROM houseinfos hi
+                          JOIN latest_housedeals lh ON hi.apt_seq = lh.apt_seq
+                 WHERE lh.price IS NOT NULL
+                 UNION ALL
+                 SELECT CONCAT(SUBSTR(hi.sgg_cd, 1, 2), '00000000'), lh.price
+                 FROM houseinfos hi
+                          JOIN latest_housedeals lh ON hi.apt_seq = lh.apt_seq
+                 WHERE lh.price IS NOT NULL
+             ) t
+        GROUP BY t.code
+    ) s ON d.dong_code = s.code
+SET d.price_sum  = COALESCE(s.price_sum, 0),
+    d.apt_count  = COALESCE(s.apt_count, 0),
+    d.avg_price  = ROUND(s.price_sum / s.apt_count),
+    d.updated_at = NOW();
@@ -0,0 +1,32 @@
+-- 아파트별 월간 거래가 집계 (가격 추세 차트용)
+-- 기존 CONCAT(년, '-', LPAD(월)) 문자열 GROUP BY 대신 정수 yyyymm 키로 미리 집계해 두고
+-- 거래 적재 시 애플리케이션이 증분 갱신한다 (건수/합/최소/최대/제곱합, 단위 만원)
+-- 조회는 (apt_seq, yyyymm) PK 범위 스캔으로 기간 내 월 수(최대 60여 행)만 읽는다
+
+CREATE TABLE `housedeal_monthly_stats` (
+  `apt_seq` varchar(20) NOT NULL,
+  `yyyymm` int NOT NULL,
+  `deal_count` int NOT NULL,
+  `price_sum` bigint NOT NULL,
+  `price_min` int unsigned NOT NULL,
+  `price_max` int unsigned NOT NULL,
+  `price_sumsq` bigint NOT NULL,
+  PRIMARY KEY (`apt_seq`, `yyyymm`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 최초 1회 전체 집계 (housedeals_price.sql 이후 실행)
+INSERT INTO housedeal_monthly_stats
+    (apt_seq, yyyymm, deal_count, price_sum, price_min, price_max, price_sumsq)
+SELECT apt_seq,
+       deal_year * 100 + deal_month,
+       COUNT(*),
+       SUM(price),
+       MIN(price),
+       MAX(price),
+       SUM(price * price)
+FROM housedeals
+WHERE apt_seq IS NOT NULL
+  AND price IS NOT NULL
+  AND deal_year IS NOT NULL
+  AND deal_month BETWEEN 1 AND 12
+GROUP BY apt_seq, deal_year * 100 + deal_month;
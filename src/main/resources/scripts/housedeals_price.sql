@@ -0,0 +1,19 @@
+-- 거래가 숫자 컬럼 추가 (deal_amount 는 '12,500' 같은 varchar)
+-- price: 만원 단위 정수, deal_amount 에서 생성 (STORED) - 숫자가 아니면 NULL
+-- 가격 조건/정렬이 CAST(REPLACE(...)) 대신 인덱스 범위 스캔을 타도록 한다
+
+ALTER TABLE `housedeals`
+    ADD COLUMN `price` INT UNSIGNED
+        GENERATED ALWAYS AS (CASE WHEN REPLACE(TRIM(`deal_amount`), ',', '') REGEXP '^[0-9]+$'
+                                  THEN CAST(REPLACE(TRIM(`deal_amount`), ',', '') AS UNSIGNED) END) STORED,
+    DROP INDEX `idx_housedeals_deal_amount`,
+    DROP INDEX `idx_housedeals_complex`,
+    ADD INDEX `idx_housedeals_price` (`price`),
+    ADD INDEX `idx_housedeals_complex` (`apt_seq`, `price`, `exclu_use_ar`);
+
+-- latest_housedeals 는 업데이트 스크립트가 다시 만들 수 있으므로 재생성 후에도 이 부분을 실행한다
+ALTER TABLE `latest_housedeals`
+    ADD COLUMN `price` INT UNSIGNED
+        GENERATED ALWAYS AS (CASE WHEN REPLACE(TRIM(`deal_amount`), ',', '') REGEXP '^[0-9]+$'
+                                  THEN CAST(REPLACE(TRIM(`deal_amount`), ',', '') AS UNSIGNED) END) STORED,
+    ADD INDEX `idx_latest_housedeals_price` (`price`);
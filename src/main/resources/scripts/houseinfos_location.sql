@@ -0,0 +1,12 @@
+-- houseinfos 공간 인덱스 컬럼 추가
+-- location: POINT SRID 4326 (내부 좌표 순서 = 경도, 위도)
+-- 좌표가 없는 행은 POINT(0 0) 으로 채운다 (SPATIAL INDEX 는 NOT NULL 컬럼만 허용)
+
+ALTER TABLE `houseinfos` ADD COLUMN `location` POINT SRID 4326 NULL;
+
+UPDATE `houseinfos`
+SET `location` = ST_SRID(POINT(COALESCE(`longitude`, 0), COALESCE(`latitude`, 0)), 4326);
+
+ALTER TABLE `houseinfos` MODIFY COLUMN `location` POINT SRID 4326 NOT NULL;
+
+ALTER TABLE `houseinfos` ADD SPATIAL INDEX `idx_houseinfos_location` (`location`);
@@ -0,0 +1,4 @@
+-- 법정동(시군구 코드 + 읍면동 코드) 기준 조회용 인덱스
+-- 동 코드별 거래 목록/건수 조회가 houseinfos 전체를 훑지 않도록 한다
+
+ALTER TABLE `houseinfos` ADD INDEX `idx_houseinfos_region` (`sgg_cd`, `umd_cd`);
@@ -74,6 +74,7 @@ CREATE TABLE `dong_code_superman` (
   `lat` double DEFAULT NULL,
   `lng` double DEFAULT NULL,
   `avg_price` bigint DEFAULT NULL,
+  `price_sum` bigint DEFAULT NULL,
   `apt_count` int DEFAULT NULL,
   `updated_at` datetime DEFAULT NULL,
   PRIMARY KEY (`dong_code`)
@@ -120,6 +121,25 @@ CREATE TABLE `favorite_housedeals` (
 ) ENGINE=InnoDB AUTO_INCREMENT=25 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
+--
+-- Table structure for table `housedeal_monthly_stats`
+--
+
+DROP TABLE IF EXISTS `housedeal_monthly_stats`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `housedeal_monthly_stats` (
+  `apt_seq` varchar(20) NOT NULL,
+  `yyyymm` int NOT NULL,
+  `deal_count` int NOT NULL,
+  `price_sum` bigint NOT NULL,
+  `price_min` int unsigned NOT NULL,
+  `price_max` int unsigned NOT NULL,
+  `price_sumsq` bigint NOT NULL,
+  PRIMARY KEY (`apt_seq`,`yyyymm`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `housedeals`
 --
@@ -137,13 +157,14 @@ CREATE TABLE `housedeals` (
   `deal_day` int DEFAULT NULL COMMENT '?ŷ??',
   `exclu_use_ar` decimal(7,2) DEFAULT NULL COMMENT '????Ʈ???',
   `deal_amount` varchar(10) DEFAULT NULL COMMENT '?ŷ????',
+  `price` int unsigned GENERATED ALWAYS AS ((case when regexp_like(replace(trim(`deal_amount`),_utf8mb4',',_utf8mb4''),_utf8mb4'^[0-9]+$') then cast(replace(trim(`deal_amount`),_utf8mb4',',_utf8mb4'') as unsigned) end)) STORED,
   PRIMARY KEY (`no`),
   KEY `apt_seq_to_house_info_idx` (`apt_seq`),
   KEY `idx_housedeals_apt_seq` (`apt_seq`),
-  KEY `idx_housedeals_deal_amount` (`deal_amount`),
+  KEY `idx_housedeals_price` (`price`),
   KEY `idx_housedeals_area` (`exclu_use_ar`),
   KEY `idx_housedeals_date` (`deal_year`,`deal_month`,`deal_day`),
-  KEY `idx_housedeals_complex` (`apt_seq`,`deal_amount`,`exclu_use_ar`),
+  KEY `idx_housedeals_complex` (`apt_seq`,`price`,`exclu_use_ar`),
   KEY `idx_apt_seq_deal_date` (`apt_seq`,`deal_year`,`deal_month`,`deal_day`),
   KEY `idx_apt_seq` (`apt_seq`),
   KEY `idx_housedeals_aptseq_date` (`apt_seq`,`deal_year`,`deal_month`,`deal_day`),
@@ -172,12 +193,15 @@ CREATE TABLE `houseinfos` (
   `build_year` int DEFAULT NULL COMMENT '?ذ??⵵',
   `latitude` double DEFAULT NULL,
   `longitude` double DEFAULT NULL,
+  `location` point NOT NULL /*!80003 SRID 4326 */,
   PRIMARY KEY (`apt_seq`),
   KEY `idx_houseinfos_apt_nm` (`apt_nm`),
   KEY `idx_houseinfos_umd_nm` (`umd_nm`),
   KEY `idx_houseinfos_build_year` (`build_year`),
   KEY `idx_houseinfos_latlng` (`latitude`,`longitude`),
-  KEY `idx_houseinfos_aptseq` (`apt_seq`)
+  KEY `idx_houseinfos_aptseq` (`apt_seq`),
+  KEY `idx_houseinfos_region` (`sgg_cd`,`umd_cd`),
+  SPATIAL KEY `idx_houseinfos_location` (`location`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci COMMENT='???????????̺';
 /*!40101 SET character_set_client = @saved_cs_client */;
 
@@ -215,8 +239,10 @@ CREATE TABLE `latest_housedeals` (
   `deal_amount` varchar(10) DEFAULT NULL,
   `exclu_use_ar` decimal(7,2) DEFAULT NULL,
   `updated_at` datetime DEFAULT NULL,
+  `price` int unsigned GENERATED ALWAYS AS ((case when regexp_like(replace(trim(`deal_amount`),_utf8mb4',',_utf8mb4''),_utf8mb4'^[0-9]+$') then cast(replace(trim(`deal_amount`),_utf8mb4',',_utf8mb4'') as unsigned) end)) STORED,
   PRIMARY KEY (`apt_seq`),
-  KEY `apt_seq` (`apt_seq`)
+  KEY `apt_seq` (`apt_seq`),
+  KEY `idx_latest_housedeals_price` (`price`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
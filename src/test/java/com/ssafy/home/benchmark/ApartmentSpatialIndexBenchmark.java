@@ -0,0 +1,90 @@
+package com.ssafy.home.benchmark;
+
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.service.ApartmentSpatialIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도 영역 조회: 공간 인덱스 vs SQL 경로 비교
+ * - 합성 아파트 10만 건 (수도권 범위에 무작위 분포)
+ * - sqlPathScan 은 findApartmentsInBounds 가 하던 일(행마다 CAST 후 BETWEEN, 전체 스캔)을 그대로 흉내낸다
+ *
+ * 실행: ./mvnw test-compile 후 IDE 에서 main 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApartmentSpatialIndexBenchmark {
+
+    private static final int APARTMENT_COUNT = 100_000;
+    private static final int VIEWPORT_COUNT = 1024;
+
+    private List<HouseInfo> table;
+    private ApartmentSpatialIndex.Snapshot index;
+    private double[][] viewports;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        table = new ArrayList<>(APARTMENT_COUNT);
+        for (int i = 0; i < APARTMENT_COUNT; i++) {
+            table.add(HouseInfo.builder()
+                    .aptSeq("B-" + i)
+                    .latitude(String.valueOf(37.0 + random.nextDouble()))
+                    .longitude(String.valueOf(126.5 + random.nextDouble() * 1.2))
+                    .build());
+        }
+        index = ApartmentSpatialIndex.Snapshot.of(table);
+
+        // 동 단위 줌 정도(약 2km x 2km)의 뷰포트
+        viewports = new double[VIEWPORT_COUNT][];
+        for (int i = 0; i < VIEWPORT_COUNT; i++) {
+            double swLat = 37.0 + random.nextDouble() * 0.98;
+            double swLng = 126.5 + random.nextDouble() * 1.18;
+            viewports[i] = new double[]{swLat, swLng, swLat + 0.02, swLng + 0.02};
+        }
+    }
+
+    private double[] nextViewport() {
+        return viewports[cursor++ & (VIEWPORT_COUNT - 1)];
+    }
+
+    @Benchmark
+    public void spatialIndex(Blackhole bh) {
+        double[] v = nextViewport();
+        index.tree().search(v[1], v[0], v[3], v[2], i -> bh.consume(index.apartment(i)));
+    }
+
+    @Benchmark
+    public void sqlPathScan(Blackhole bh) {
+        double[] v = nextViewport();
+        for (HouseInfo info : table) {
+            double lat = Double.parseDouble(info.getLatitude());
+            double lng = Double.parseDouble(info.getLongitude());
+            if (lat >= v[0] && lat <= v[2] && lng >= v[1] && lng <= v[3]) {
+                bh.consume(info);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ApartmentSpatialIndexBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ssafy.home.controller;
+
+import com.ssafy.home.domain.DongCode;
+import com.ssafy.home.dto.HouseDongSearchDTO;
+import com.ssafy.home.dto.HouseSearchResponse;
+import com.ssafy.home.mapper.DongMapper;
+import com.ssafy.home.mapper.HouseInfoMapper;
+import com.ssafy.home.service.BasicService;
+import com.ssafy.home.service.PropertyService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TransactionControllerTest {
+    private static final String DONG_CODE = "1168010600";
+
+    private final HouseInfoMapper houseInfoMapper = mock(HouseInfoMapper.class);
+    private final DongMapper dongMapper = mock(DongMapper.class);
+    private final TransactionController controller = new TransactionController(
+            new BasicService(houseInfoMapper, dongMapper), mock(PropertyService.class));
+
+    TransactionControllerTest() {
+        when(dongMapper.getDongByCode(DONG_CODE)).thenReturn(
+                DongCode.builder().code(DONG_CODE).sido("서울특별시").gugun("강남구").dong("대치동").build());
+        when(houseInfoMapper.countHouseDealsByDongCode(DONG_CODE)).thenReturn(23);
+    }
+
+    @Test
+    void pageReadsOnlyItsRowsAndFillsTotalPages() {
+        // given: 도로명이 없는 거래는 쿼리의 CONCAT 결과가 NULL
+        when(houseInfoMapper.getPagedHouseInfosByDongCode(DONG_CODE, 10, 10)).thenReturn(List.of(
+                HouseDongSearchDTO.builder().aptNm("은마").roadAddress("삼성로 212-0").build(),
+                HouseDongSearchDTO.builder().aptNm("도로명없음").build()));
+
+        // when
+        HouseSearchResponse response = controller.getHouseDeals(DONG_CODE, 2).getBody().getData();
+
+        // then
+        assertEquals(2, response.getCurrentPage());
+        assertEquals(3, response.getTotalPages());
+        assertEquals(23, response.getTotalRecords());
+        assertEquals("서울특별시 강남구 삼성로 212-0", response.getHouseList().get(0).getRoadAddress());
+        assertEquals("서울특별시 강남구", response.getHouseList().get(1).getRoadAddress());
+    }
+
+    @Test
+    void outOfRangePageIsEmptyWithoutRowQuery() {
+        HouseSearchResponse response = controller.getHouseDeals(DONG_CODE, 4).getBody().getData();
+
+        assertTrue(response.getHouseList().isEmpty());
+        assertEquals(3, response.getTotalPages());
+        assertEquals(23, response.getTotalRecords());
+        verify(houseInfoMapper, never()).getPagedHouseInfosByDongCode(anyString(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,63 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApartmentSpatialIndexTest {
+
+    @Test
+    void differenceMatchesLinearScan() {
+        // given
+        Random random = new Random(5);
+        List<HouseInfo> apartments = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            apartments.add(HouseInfo.builder()
+                    .aptSeq("A-" + i)
+                    // 0.001 격자에 맞춰 경계 위의 점도 생기게 한다
+                    .latitude(String.valueOf(37.0 + random.nextInt(100) / 1000.0))
+                    .longitude(String.valueOf(127.0 + random.nextInt(100) / 1000.0))
+                    .build());
+        }
+        ApartmentSpatialIndex index = new ApartmentSpatialIndex(null);
+        ApartmentSpatialIndex.Snapshot snapshot = ApartmentSpatialIndex.Snapshot.of(apartments);
+
+        for (int q = 0; q < 50; q++) {
+            ApartmentSpatialIndex.Bounds previous = randomBounds(random);
+            ApartmentSpatialIndex.Bounds current = q % 5 == 0 ? previous : randomBounds(random);
+
+            // when
+            List<HouseInfo> added = index.findInDifference(snapshot, current, previous);
+
+            // then
+            Set<String> expected = new HashSet<>();
+            for (HouseInfo apt : apartments) {
+                double lat = Double.parseDouble(apt.getLatitude());
+                double lng = Double.parseDouble(apt.getLongitude());
+                if (current.contains(lat, lng) && !previous.contains(lat, lng)) {
+                    expected.add(apt.getAptSeq());
+                }
+            }
+            Set<String> actual = new HashSet<>();
+            for (HouseInfo apt : added) {
+                actual.add(apt.getAptSeq());
+            }
+            assertEquals(expected.size(), added.size());
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static ApartmentSpatialIndex.Bounds randomBounds(Random random) {
+        double swLat = 37.0 + random.nextInt(60) / 1000.0;
+        double swLng = 127.0 + random.nextInt(60) / 1000.0;
+        return new ApartmentSpatialIndex.Bounds(swLat, swLng,
+                swLat + random.nextInt(40) / 1000.0, swLng + random.nextInt(40) / 1000.0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.domain.HouseInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealIngestionServiceTest {
+
+    // {lawdCd}_{dealYmd}_{pageNo}.xml 픽스처를 읽는 출처
+    private static final MolitDealSource FIXTURES = (lawdCd, dealYmd, pageNo, numOfRows) -> {
+        String name = "/molit/" + lawdCd + "_" + dealYmd + "_" + pageNo + ".xml";
+        InputStream in = DealIngestionServiceTest.class.getResourceAsStream(name);
+        if (in == null) {
+            throw new FileNotFoundException(name);
+        }
+        return in;
+    };
+
+    @Test
+    void fetchRegionReadsAllPages() throws Exception {
+        DealIngestionService.RegionFetch fetch = DealIngestionService.fetchRegion(FIXTURES, "11680", "202405", 3);
+
+        assertEquals(4, fetch.deals.size());
+        assertEquals(1, fetch.cancelled);
+    }
+
+    @Test
+    void newDealsIsIdempotentAndKeepsRealDuplicates() throws Exception {
+        List<HouseDeal> incoming = DealIngestionService.fetchRegion(FIXTURES, "11680", "202405", 3).deals;
+
+        // given: 같은 날 같은 조건 거래 2건 중 1건만 이미 적재됨 (금액 표기만 다름)
+        HouseDeal stored = HouseDeal.builder()
+                .aptSeq("11680-3855").floor("7").dealYear(2024).dealMonth(5).dealDay(17)
+                .excluUseAr(84.97).dealAmount("352,000").build();
+
+        // when
+        List<HouseDeal> fresh = DealIngestionService.newDeals(incoming, List.of(stored));
+
+        // then: 나머지 3건만 새 거래, 모두 적재된 뒤 다시 돌리면 0건
+        assertEquals(3, fresh.size());
+        List<HouseDeal> all = new ArrayList<>(fresh);
+        all.add(stored);
+        assertTrue(DealIngestionService.newDeals(incoming, all).isEmpty());
+    }
+
+    @Test
+    void pageCapBeforeTotalCountFailsRegion() {
+        assertThrows(IllegalStateException.class,
+                () -> DealIngestionService.fetchRegion(FIXTURES, "11680", "202405", 3, 1));
+    }
+
+    @Test
+    void missingPageFails() {
+        assertThrows(FileNotFoundException.class,
+                () -> DealIngestionService.fetchRegion(FIXTURES, "11650", "202405", 3));
+    }
+
+    @Test
+    void regionsAreTrimmedDeduplicatedAndValidated() {
+        assertEquals(List.of("11680", "11650"), DealIngestionService.regionsOf(List.of("11680", " 11650", "11680")));
+        assertThrows(IllegalArgumentException.class, () -> DealIngestionService.regionsOf(List.of("11680", "1168")));
+        assertThrows(IllegalArgumentException.class, () -> DealIngestionService.regionsOf(List.of("1168O")));
+    }
+
+    @Test
+    void legacyDealsResolveAptSeqByJibunThenName() {
+        DealIngestionService.ApartmentKeys apartments = new DealIngestionService.ApartmentKeys(List.of(
+                HouseInfo.builder().aptSeq("11110-100").umdNm("사직동").jibun("9").aptNm("광화문풍림스페이스본(101동~105동)").build(),
+                HouseInfo.builder().aptSeq("11110-200").umdNm("사직동").jibun("311-1").aptNm("광화문스페이스본").build(),
+                // 같은 법정동 + 이름이 두 곳이면 이름으로는 찾지 않는다
+                HouseInfo.builder().aptSeq("11110-300").umdNm("내수동").jibun("72").aptNm("경희궁의아침").build(),
+                HouseInfo.builder().aptSeq("11110-301").umdNm("내수동").jibun("73").aptNm("경희궁의아침").build()));
+
+        assertEquals("11110-100", apartments.resolve(HouseDeal.builder().umdNm("사직동").jibun("9").build()));
+        assertEquals("11110-200", apartments.resolve(HouseDeal.builder().umdNm("사직동").aptNm("광화문스페이스본").build()));
+        assertEquals("11110-301", apartments.resolve(HouseDeal.builder().umdNm("내수동").jibun("73").aptNm("경희궁의아침").build()));
+        assertNull(apartments.resolve(HouseDeal.builder().umdNm("내수동").aptNm("경희궁의아침").build()));
+        assertTrue(apartments.contains("11110-300"));
+    }
+}
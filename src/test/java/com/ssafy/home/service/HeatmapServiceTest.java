@@ -0,0 +1,77 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.dto.HeatmapCell;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.ssafy.home.service.SpatialFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeatmapServiceTest {
+
+    private final Map<String, HouseDeal> deals = new HashMap<>();
+
+    @Test
+    void binsApartmentsAndWeighsLatestPricePerSquareMeter() {
+        // given: 강남 한 셀에 4곳 (1곳은 거래 없음), 분당 한 셀에 1곳
+        List<HouseInfo> apartments = List.of(
+                apartment("A", 37.5000, 127.0500), apartment("B", 37.5010, 127.0510),
+                apartment("C", 37.5020, 127.0520), apartment("D", 37.5030, 127.0530),
+                apartment("E", 37.3700, 127.1100));
+        deal("A", 100_000, 100);  // 1000 만원/㎡
+        deal("B", 200_000, 100);  // 2000
+        deal("C", 60_000, 100);   // 600
+        deal("E", 84_900, 84.9);  // 1000
+        HeatmapService service = service(apartments);
+
+        // when
+        List<HeatmapCell> cells = service.getHeatmap(37.0, 126.5, 38.0, 127.5, 10, 256);
+        cells.sort(Comparator.comparingInt(HeatmapCell::getCount).reversed());
+
+        // then: 평균은 거래 있는 아파트만, 중앙값은 홀수 개면 가운데
+        assertEquals(2, cells.size());
+        HeatmapCell gangnam = cells.get(0);
+        assertEquals(4, gangnam.getCount());
+        assertEquals(1200.0, gangnam.getAvgPricePerM2());
+        assertEquals(1000.0, gangnam.getMedianPricePerM2());
+        assertTrue(gangnam.getSouth() <= 37.5 && gangnam.getNorth() >= 37.503);
+        assertTrue(gangnam.getWest() <= 127.05 && gangnam.getEast() >= 127.053);
+        assertEquals(1, cells.get(1).getCount());
+        assertEquals(1000.0, cells.get(1).getMedianPricePerM2());
+    }
+
+    @Test
+    void medianOfEvenCountAndCellsWithoutDeals() {
+        List<HouseInfo> apartments = List.of(
+                apartment("A", 37.5000, 127.0500), apartment("B", 37.5010, 127.0510),
+                apartment("E", 37.3700, 127.1100));
+        deal("A", 100_000, 100);
+        deal("B", 200_000, 100);
+        HeatmapService service = service(apartments);
+
+        List<HeatmapCell> cells = service.getHeatmap(37.0, 126.5, 38.0, 127.5, 10, 256);
+        cells.sort(Comparator.comparingInt(HeatmapCell::getCount).reversed());
+
+        assertEquals(1500.0, cells.get(0).getMedianPricePerM2());
+        assertEquals(1, cells.get(1).getCount());
+        assertNull(cells.get(1).getAvgPricePerM2());
+        assertNull(cells.get(1).getMedianPricePerM2());
+
+        // 영역 밖 셀은 빠진다
+        assertEquals(1, service.getHeatmap(37.49, 127.04, 37.51, 127.06, 10, 256).size());
+    }
+
+    private HeatmapService service(List<HouseInfo> apartments) {
+        return new HeatmapService(index(apartments), latestDeals(deals));
+    }
+
+    private void deal(String aptSeq, long price, double area) {
+        deals.put(aptSeq, HouseDeal.builder().aptSeq(aptSeq).price(price).excluUseAr(area).build());
+    }
+}
@@ -0,0 +1,156 @@
+package com.ssafy.home.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.dto.ApartmentWithLatestDeal;
+import com.ssafy.home.mapper.HouseInfoMapper;
+import com.ssafy.home.mapper.HouseMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.ssafy.home.service.SpatialFixtures.apartment;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HouseServiceTest {
+
+    private final HouseMapper houseMapper = mock(HouseMapper.class);
+    private final ApartmentSpatialIndex apartmentSpatialIndex = mock(ApartmentSpatialIndex.class);
+    // 트랜잭션이 열려 있는 동안만 true
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new PlatformTransactionManager() {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            inTransaction.set(true);
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            inTransaction.set(false);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            inTransaction.set(false);
+        }
+    });
+    private final HouseService houseService = new HouseService(houseMapper, mock(HouseInfoMapper.class),
+            apartmentSpatialIndex, mock(MarkerClusterService.class), mock(ViewportTileCache.class),
+            mock(RegionHierarchy.class), new ObjectMapper(), transactionTemplate);
+
+    @Test
+    void streamsOneJsonObjectPerLineInsideTransaction() {
+        // given
+        ApartmentWithLatestDeal first = new ApartmentWithLatestDeal();
+        first.setAptSeq("A");
+        first.setLatestPrice(95_000L);
+        ApartmentWithLatestDeal second = new ApartmentWithLatestDeal();
+        second.setAptSeq("B");
+        TransactionalCursor<ApartmentWithLatestDeal> cursor = new TransactionalCursor<>(List.of(first, second));
+        when(houseMapper.streamApartmentsWithLatestDealInBounds(37.0, 127.0, 38.0, 128.0)).thenReturn(cursor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        houseService.streamApartmentsInBounds(37.0, 127.0, 38.0, 128.0, out);
+
+        // then: 행마다 한 줄, 마지막 행 뒤에만 줄바꿈, 커서는 트랜잭션 안에서 읽고 닫힌다
+        String body = out.toString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"aptSeq\":\"A\"") && lines[0].endsWith("}"));
+        assertTrue(lines[0].contains("\"latestPrice\":95000"));
+        assertTrue(lines[1].startsWith("{\"aptSeq\":\"B\"") && lines[1].endsWith("}"));
+        assertEquals("", lines[2]);
+        assertTrue(cursor.readInTransaction);
+        assertTrue(cursor.closed);
+        assertFalse(inTransaction.get());
+    }
+
+    @Test
+    void emptyStreamWritesNothing() {
+        TransactionalCursor<HouseDeal> cursor = new TransactionalCursor<>(List.of());
+        when(houseMapper.streamDealsByAptSeq("A")).thenReturn(cursor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        houseService.streamApartmentDeals("A", out);
+
+        assertEquals(0, out.size());
+        assertTrue(cursor.readInTransaction);
+        assertTrue(cursor.closed);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void nearestWithoutIndexHasDistanceAndLatestDeal() {
+        // given: 공간 인덱스 준비 전, DB 는 가까운 순으로 3곳 반환
+        when(apartmentSpatialIndex.isReady()).thenReturn(false);
+        when(houseMapper.findApartmentsByLocation(37.5, 127.0, 1000)).thenReturn(List.of(
+                apartment("A", 37.5, 127.0), apartment("B", 37.501, 127.0), apartment("C", 37.505, 127.0)));
+        when(houseMapper.findLatestDealsByAptSeqs(List.of("A", "B"))).thenReturn(List.of(
+                HouseDeal.builder().aptSeq("B").dealYear(2024).dealMonth(5).dealDay(1).dealAmount("95,000").build()));
+
+        // when
+        Map<String, Object> result = houseService.getNearbyApartments(37.5, 127.0, 1000, 2);
+
+        // then: 인덱스 경로와 같은 형태 (거리 + 최신 거래)
+        assertEquals(2, result.get("count"));
+        List<ApartmentWithLatestDeal> apartments = (List<ApartmentWithLatestDeal>) result.get("apartments");
+        assertEquals("A", apartments.get(0).getAptSeq());
+        assertEquals(0.0, apartments.get(0).getDistance());
+        assertNull(apartments.get(0).getLatestPrice());
+        assertEquals("B", apartments.get(1).getAptSeq());
+        assertEquals(111.0, apartments.get(1).getDistance());
+        assertEquals(95_000L, apartments.get(1).getLatestPrice());
+        verify(apartmentSpatialIndex, never()).findNearest(anyDouble(), anyDouble(), anyInt(), anyInt());
+    }
+
+    // 읽을 때 트랜잭션이 열려 있었는지 기록하는 커서
+    private final class TransactionalCursor<T> implements Cursor<T> {
+        private final List<T> rows;
+        private boolean readInTransaction;
+        private boolean closed;
+
+        private TransactionalCursor(List<T> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            readInTransaction = inTransaction.get();
+            return rows.iterator();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
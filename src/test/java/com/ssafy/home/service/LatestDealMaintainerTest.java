@@ -0,0 +1,77 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.event.LatestDealsChangedEvent;
+import com.ssafy.home.mapper.HouseDealsMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class LatestDealMaintainerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsNewestDealPerApartmentAndReportsChanges() {
+        // given: 현재 최신 거래 B(5/10), C(6/1)
+        HouseDealsMapper mapper = mock(HouseDealsMapper.class);
+        RegionPriceMaintainer regionPriceMaintainer = mock(RegionPriceMaintainer.class);
+        HouseDeal existingB = deal("B", 10, "50,000");
+        HouseDeal existingC = HouseDeal.builder()
+                .aptSeq("C").dealYear(2024).dealMonth(6).dealDay(1).dealAmount("70,000").build();
+        when(mapper.selectLatestDealsForUpdate(anyList())).thenReturn(List.of(existingB, existingC));
+
+        HouseDeal olderA = deal("A", 1, "10,000");
+        HouseDeal newerA = deal("A", 10, "12,000");
+        HouseDeal sameDayB = deal("B", 10, "52,000");
+        HouseDeal olderC = deal("C", 20, "65,000");
+        HouseDeal newD = deal("D", 3, "30,000");
+
+        // when
+        List<HouseDeal> applied = new LatestDealMaintainer(mapper, regionPriceMaintainer)
+                .apply(List.of(newD, newerA, olderC, sameDayB, olderA));
+
+        // then: apt_seq 순으로 잠그고, 더 최신이거나 같은 날인 거래만 반영
+        verify(mapper).selectLatestDealsForUpdate(List.of("A", "B", "C", "D"));
+        verify(mapper).upsertLatestDeals(List.of(newerA, sameDayB, newD));
+        assertEquals(List.of(newerA, sameDayB, newD), applied);
+
+        ArgumentCaptor<List<LatestDealsChangedEvent.Change>> captor = ArgumentCaptor.forClass(List.class);
+        verify(regionPriceMaintainer).apply(captor.capture());
+        List<LatestDealsChangedEvent.Change> changes = captor.getValue();
+        assertEquals(3, changes.size());
+        assertChange(changes.get(0), "A", null, newerA);
+        assertChange(changes.get(1), "B", existingB, sameDayB);
+        assertChange(changes.get(2), "D", null, newD);
+    }
+
+    @Test
+    void nothingNewerLeavesLatestDealsUntouched() {
+        HouseDealsMapper mapper = mock(HouseDealsMapper.class);
+        RegionPriceMaintainer regionPriceMaintainer = mock(RegionPriceMaintainer.class);
+        when(mapper.selectLatestDealsForUpdate(anyList())).thenReturn(List.of(deal("A", 20, "10,000")));
+
+        List<HouseDeal> applied = new LatestDealMaintainer(mapper, regionPriceMaintainer)
+                .apply(List.of(deal("A", 19, "11,000"), deal(null, 25, "9,000")));
+
+        assertTrue(applied.isEmpty());
+        verify(mapper, never()).upsertLatestDeals(anyList());
+        verify(regionPriceMaintainer).apply(List.of());
+    }
+
+    private static void assertChange(LatestDealsChangedEvent.Change change, String aptSeq,
+                                     HouseDeal previous, HouseDeal current) {
+        assertEquals(aptSeq, change.getAptSeq());
+        assertSame(previous, change.getPrevious());
+        assertSame(current, change.getCurrent());
+    }
+
+    private static HouseDeal deal(String aptSeq, int day, String amount) {
+        return HouseDeal.builder()
+                .aptSeq(aptSeq).dealYear(2024).dealMonth(5).dealDay(day).dealAmount(amount).build();
+    }
+}
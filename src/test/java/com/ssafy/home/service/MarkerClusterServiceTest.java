@@ -0,0 +1,99 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseInfo;
+import com.ssafy.home.dto.MarkerCluster;
+import com.ssafy.home.util.TileMath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.ssafy.home.service.SpatialFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkerClusterServiceTest {
+
+    private static final int ZOOM = 12;
+    // MarkerClusterService.CELL_PIXELS
+    private static final int CELL_PIXELS = 80;
+
+    @Test
+    void keepsClusterWhoseCentroidIsOutsideTheViewportEdge() {
+        // given: 한 셀의 서쪽 끝과 동쪽 끝에 아파트 두 곳 (중심은 셀 가운데)
+        double cellWest = TileMath.worldXToLng(Math.floor(TileMath.lngToWorldX(127.0, ZOOM) / CELL_PIXELS) * CELL_PIXELS, ZOOM);
+        double cellEast = TileMath.worldXToLng((Math.floor(TileMath.lngToWorldX(127.0, ZOOM) / CELL_PIXELS) + 1) * CELL_PIXELS, ZOOM);
+        double margin = (cellEast - cellWest) * 0.05;
+        MarkerClusterService service = service(List.of(
+                apartment("W", 37.5, cellWest + margin),
+                apartment("E", 37.5, cellEast - margin)));
+
+        // when: 동쪽 아파트만 보이도록 셀 동쪽 1/4 부터 시작하는 영역
+        double viewportWest = cellEast - (cellEast - cellWest) / 4;
+        List<MarkerCluster> edge = service.findClusters(37.4, viewportWest, 37.6, viewportWest + 1.0, ZOOM);
+        // 넓은 영역 (셀 전체 순회 경로)
+        List<MarkerCluster> wide = service.findClusters(-80, -179, 80, 179, ZOOM);
+
+        // then
+        assertEquals(1, edge.size());
+        assertEquals(2, edge.get(0).getCount());
+        assertTrue(edge.get(0).getLng() < viewportWest);
+        assertEquals(1, wide.size());
+        // 셀에 겹치지 않는 영역
+        assertTrue(service.findClusters(37.4, cellEast + margin, 37.6, cellEast + 1.0, ZOOM).isEmpty());
+    }
+
+    @Test
+    void adjacentTilesNeverShareACluster() {
+        // given: 타일 경계 양쪽으로 흩어진 아파트 (80px 셀이 256px 타일 경계에 걸친다)
+        int tileX = (int) (TileMath.lngToWorldX(127.0, ZOOM) / TileMath.TILE_SIZE);
+        int tileY = (int) (TileMath.latToWorldY(37.5, ZOOM) / TileMath.TILE_SIZE);
+        double boundary = TileMath.worldXToLng((double) (tileX + 1) * TileMath.TILE_SIZE, ZOOM);
+        double north = TileMath.worldYToLat((double) tileY * TileMath.TILE_SIZE, ZOOM);
+        double south = TileMath.worldYToLat((double) (tileY + 1) * TileMath.TILE_SIZE, ZOOM);
+        List<HouseInfo> apartments = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            apartments.add(apartment("A" + i, south + (north - south) * (i % 5 + 0.5) / 5,
+                    boundary + (i / 5 - 4) * 0.004 + 0.001));
+        }
+        MarkerClusterService service = service(apartments);
+        double west = TileMath.worldXToLng((double) tileX * TileMath.TILE_SIZE, ZOOM);
+        double east = TileMath.worldXToLng((double) (tileX + 2) * TileMath.TILE_SIZE, ZOOM);
+
+        // when: VectorTileService.buildTile 과 같은 경계로 이웃한 두 타일 조회
+        List<MarkerCluster> left = service.findClusters(south, west, north, boundary, ZOOM, true);
+        List<MarkerCluster> right = service.findClusters(south, boundary, north, east, ZOOM, true);
+
+        // then: 경계에 걸친 셀은 양쪽에 겹치지만, 중심 기준으로는 한 타일에만 속한다
+        assertFalse(Collections.disjoint(aptSeqs(service.findClusters(south, west, north, boundary, ZOOM)),
+                aptSeqs(service.findClusters(south, boundary, north, east, ZOOM))));
+        assertTrue(Collections.disjoint(aptSeqs(left), aptSeqs(right)));
+        int total = 0;
+        for (MarkerCluster cluster : left) {
+            assertTrue(cluster.getLng() < boundary);
+            total += cluster.getCount();
+        }
+        for (MarkerCluster cluster : right) {
+            assertTrue(cluster.getLng() >= boundary);
+            total += cluster.getCount();
+        }
+        assertEquals(apartments.size(), total);
+    }
+
+    private static Set<String> aptSeqs(List<MarkerCluster> clusters) {
+        Set<String> result = new HashSet<>();
+        for (MarkerCluster cluster : clusters) {
+            result.add(cluster.getRepresentativeAptSeq());
+        }
+        return result;
+    }
+
+    private static MarkerClusterService service(List<HouseInfo> apartments) {
+        MarkerClusterService service = new MarkerClusterService(index(apartments), latestDeals(Map.of()));
+        service.rebuild();
+        return service;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.dto.MonthlyPriceStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyStatsMaintainerTest {
+
+    @Test
+    void rollsDealsUpByApartmentAndMonth() {
+        List<HouseDeal> deals = List.of(
+                deal("B", 2024, 3, "60,000"),
+                deal("A", 2024, 5, "10,000"),
+                deal("A", 2024, 5, "30,000"),
+                deal("A", 2023, 12, "20,000"),
+                deal("A", 2024, 5, "가격미상"),
+                deal(null, 2024, 5, "10,000"));
+
+        List<MonthlyPriceStats> stats = MonthlyStatsMaintainer.rollUp(deals);
+
+        // (apt_seq, yyyymm) 순, 잘못된 거래 제외
+        assertEquals(3, stats.size());
+        assertEquals(202312, stats.get(0).getYyyymm());
+        MonthlyPriceStats may = stats.get(1);
+        assertEquals("A", may.getAptSeq());
+        assertEquals(202405, may.getYyyymm());
+        assertEquals(2, may.getDealCount());
+        assertEquals(40_000, may.getPriceSum());
+        assertEquals(10_000, may.getPriceMin());
+        assertEquals(30_000, may.getPriceMax());
+        assertEquals(20_000.0, may.avgPrice(), 1e-9);
+        assertEquals(10_000.0, may.priceStd(), 1e-6);
+        assertEquals("B", stats.get(2).getAptSeq());
+    }
+
+    private static HouseDeal deal(String aptSeq, int year, int month, String amount) {
+        return HouseDeal.builder()
+                .aptSeq(aptSeq).dealYear(year).dealMonth(month).dealDay(1).dealAmount(amount).build();
+    }
+}
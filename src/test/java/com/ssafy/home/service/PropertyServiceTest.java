@@ -0,0 +1,65 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyServiceTest {
+
+    @Test
+    void dateCursorRoundTrip() {
+        HouseDeal last = HouseDeal.builder().no(42).dealYear(2024).dealMonth(3).dealDay(15).dealAmount("12,500").build();
+
+        String cursor = PropertyService.cursorOf("date-desc", last);
+        Map<String, Object> params = new HashMap<>();
+        PropertyService.applyCursor(params, "date-desc", cursor);
+
+        assertEquals(2024, params.get("afterYear"));
+        assertEquals(3, params.get("afterMonth"));
+        assertEquals(15, params.get("afterDay"));
+        assertEquals(42, params.get("afterNo"));
+    }
+
+    @Test
+    void priceCursorRoundTrip() {
+        HouseDeal last = HouseDeal.builder().no(7).dealAmount("12,500").build();
+
+        String cursor = PropertyService.cursorOf("price-asc", last);
+        Map<String, Object> params = new HashMap<>();
+        PropertyService.applyCursor(params, "price-asc", cursor);
+
+        assertEquals(12500L, params.get("afterPrice"));
+        assertEquals(7, params.get("afterNo"));
+    }
+
+    @Test
+    void cursorFromOtherSortOrMalformedIsRejected() {
+        HouseDeal last = HouseDeal.builder().no(7).dealAmount("12,500").build();
+        String priceCursor = PropertyService.cursorOf("price-desc", last);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PropertyService.applyCursor(new HashMap<>(), "date-desc", priceCursor));
+        assertThrows(IllegalArgumentException.class,
+                () -> PropertyService.applyCursor(new HashMap<>(), "price-desc", "p,abc,1"));
+    }
+
+    @Test
+    void priceSortCountsSeparatelyFromDateSort() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("aptSeqs", List.of("B", "A"));
+        params.put("sortOrder", "date-desc");
+        String dateKey = PropertyService.countKey(params);
+
+        params.put("sortOrder", "price-desc");
+        String priceDescKey = PropertyService.countKey(params);
+        params.put("sortOrder", "price-asc");
+
+        assertNotEquals(dateKey, priceDescKey);
+        assertEquals(priceDescKey, PropertyService.countKey(params));
+    }
+}
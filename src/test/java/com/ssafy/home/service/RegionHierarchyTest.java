@@ -0,0 +1,81 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.DongCode;
+import com.ssafy.home.mapper.DongMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionHierarchyTest {
+
+    private static final List<DongCode> DONGS = List.of(
+            region("1100000000", "서울특별시", null, null, 37.566, 126.978, 120_000L),
+            region("1168000000", "서울특별시", "강남구", null, 37.517, 127.047, 250_000L),
+            region("1165000000", "서울특별시", "서초구", null, 37.483, 127.032, 230_000L),
+            region("1168010300", "서울특별시", "강남구", "개포동", 37.478, 127.052, 260_000L),
+            region("1168010100", "서울특별시", "강남구", "역삼동", 37.500, 127.036, 240_000L),
+            // 평균가가 없는 동은 트리에는 있지만 영역 조회에서는 빠진다
+            region("1168010500", "서울특별시", "강남구", "삼성동", 37.511, 127.059, null),
+            region("4100000000", "경기도", null, null, 37.275, 127.009, 70_000L),
+            region("4113500000", "경기도", "성남시분당구", null, 37.383, 127.119, 110_000L),
+            region("4113510900", "경기도", "성남시분당구", "정자동", 37.366, 127.108, 115_000L),
+            // 상위 지역이 없는 동은 연결되지 않는다
+            region("2611010100", "부산광역시", "중구", "중앙동", 35.104, 129.035, 40_000L));
+
+    @Test
+    void linksDongsToGugunsToSidos() {
+        RegionHierarchy hierarchy = loaded();
+
+        assertEquals(RegionHierarchy.Level.SIDO, hierarchy.get("1100000000").getLevel());
+        assertEquals(RegionHierarchy.Level.GUGUN, hierarchy.get("1168000000").getLevel());
+        assertEquals(RegionHierarchy.Level.DONG, hierarchy.get("1168010100").getLevel());
+
+        assertEquals(List.of("1165000000", "1168000000"), codes(hierarchy.children("1100000000")));
+        assertEquals(List.of("1168010100", "1168010300", "1168010500"), codes(hierarchy.children("1168000000")));
+        assertEquals(List.of("4113510900"), codes(hierarchy.children("4113500000")));
+        assertTrue(hierarchy.children("1168010100").isEmpty());
+        assertNotNull(hierarchy.get("2611010100"));
+        assertNull(hierarchy.get("2611000000"));
+    }
+
+    @Test
+    void findsPricedRegionsOfOneLevelInBoundsByName() {
+        RegionHierarchy hierarchy = loaded();
+
+        List<Map<String, Object>> dongs = hierarchy.findInBounds(RegionHierarchy.Level.DONG, 37.4, 127.0, 37.6, 127.1);
+        assertEquals(List.of("개포동", "역삼동"), dongs.stream().map(r -> r.get("dong_name")).toList());
+        assertEquals(260_000L, dongs.get(0).get("avg_price"));
+
+        // 시도 이름 -> 구군 이름 순
+        List<Map<String, Object>> guguns = hierarchy.findInBounds(RegionHierarchy.Level.GUGUN, 37.0, 126.0, 38.0, 128.0);
+        assertEquals(List.of("성남시분당구", "강남구", "서초구"), guguns.stream().map(r -> r.get("gugun_name")).toList());
+        assertFalse(guguns.get(1).containsKey("dong_name"));
+    }
+
+    private static RegionHierarchy loaded() {
+        DongMapper mapper = (DongMapper) Proxy.newProxyInstance(DongMapper.class.getClassLoader(),
+                new Class<?>[]{DongMapper.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getAllDongs" -> DONGS;
+                    case "getRegionsVersion" -> "v1";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        RegionHierarchy hierarchy = new RegionHierarchy(mapper);
+        hierarchy.reload();
+        assertTrue(hierarchy.isLoaded());
+        return hierarchy;
+    }
+
+    private static List<String> codes(List<RegionHierarchy.Region> regions) {
+        return regions.stream().map(r -> r.getDongCode().getCode()).toList();
+    }
+
+    private static DongCode region(String code, String sido, String gugun, String dong,
+                                   double lat, double lng, Long avgPrice) {
+        return DongCode.builder().code(code).sido(sido).gugun(gugun).dong(dong)
+                .lat(lat).lng(lng).avgPrice(avgPrice).aptCount(10).build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.home.service;
+
+import com.ssafy.home.domain.HouseDeal;
+import com.ssafy.home.domain.HouseInfo;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공간 인덱스 / 최신 거래 캐시를 쓰는 서비스 테스트용 고정 데이터
+ */
+final class SpatialFixtures {
+
+    private SpatialFixtures() {
+    }
+
+    static HouseInfo apartment(String aptSeq, double lat, double lng) {
+        return HouseInfo.builder().aptSeq(aptSeq).latitude(String.valueOf(lat)).longitude(String.valueOf(lng)).build();
+    }
+
+    // DB 없이 주어진 아파트로 만든 스냅샷만 돌려주는 공간 인덱스
+    static ApartmentSpatialIndex index(List<HouseInfo> apartments) {
+        ApartmentSpatialIndex.Snapshot snapshot = ApartmentSpatialIndex.Snapshot.of(apartments);
+        return new ApartmentSpatialIndex(null) {
+            @Override
+            public Snapshot snapshot() {
+                return snapshot;
+            }
+        };
+    }
+
+    // deals 를 그대로 조회하는 최신 거래 캐시 (테스트 중 deals 를 바꾸면 바로 보인다)
+    static LatestDealCache latestDeals(Map<String, HouseDeal> deals) {
+        return new LatestDealCache(null, null) {
+            @Override
+            public HouseDeal get(String aptSeq) {
+                return deals.get(aptSeq);
+            }
+        };
+    }
+}
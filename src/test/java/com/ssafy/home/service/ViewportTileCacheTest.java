@@ -0,0 +1,50 @@
+package com.ssafy.home.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewportTileCacheTest {
+
+    private final List<double[]> points = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private List<double[]> load(double swLat, double swLng, double neLat, double neLng) {
+        loads.incrementAndGet();
+        List<double[]> result = new ArrayList<>();
+        for (double[] p : points) {
+            if (p[0] >= swLat && p[0] <= neLat && p[1] >= swLng && p[1] <= neLng) {
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void clipsToViewportAndReusesTilesWhenPanning() {
+        // given
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            points.add(new double[]{37.4 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2});
+        }
+        ViewportTileCache cache = new ViewportTileCache(null);
+
+        // when
+        List<double[]> first = cache.query("test", 37.45, 126.95, 37.50, 127.00, this::load, p -> p[0], p -> p[1]);
+        int loadsAfterFirst = loads.get();
+        List<double[]> panned = cache.query("test", 37.451, 126.951, 37.501, 127.001, this::load, p -> p[0], p -> p[1]);
+
+        // then
+        assertEquals(load(37.45, 126.95, 37.50, 127.00).size(), first.size());
+        assertEquals(first.size(), new HashSet<>(first).size());
+        assertEquals(load(37.451, 126.951, 37.501, 127.001).size(), panned.size());
+        // 조금 이동한 요청은 새 타일을 거의 읽지 않는다 (검증용 load 2회 제외)
+        assertTrue(loads.get() - 2 - loadsAfterFirst <= loadsAfterFirst / 2);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComplexSketchesTest {
+
+    @Test
+    void countsDistinctComplexesAcrossMonthsAndRegions() {
+        DealColumns columns = DealColumns.builder()
+                .add("A", "1168010100", 202401, 1, 10_000, 84.9f, 5)
+                .add("A", "1168010100", 202401, 2, 11_000, 84.9f, 5)
+                .add("A", "1168010100", 202402, 1, 12_000, 84.9f, 5)
+                .add("B", "1168010200", 202402, 1, 20_000, 59.9f, 5)
+                .add("C", "1165010100", 202403, 1, 30_000, 59.9f, 5)
+                .add("D", "4113510900", 202401, 1, 40_000, 59.9f, 5)
+                .add("E", null, 202401, 1, 50_000, 59.9f, 5)
+                .build();
+        ComplexSketches sketches = ComplexSketches.build(columns);
+
+        assertEquals(1, sketches.union("11680", 202401, 202401).estimate());
+        // 두 달 모두 거래한 A 는 한 번만
+        assertEquals(2, sketches.union("11680", 202401, 202412).estimate());
+        assertEquals(3, sketches.union("11", 202401, 202412).estimate());
+        assertEquals(4, sketches.union("", 0, 999912).estimate());
+        assertEquals(0, sketches.union("26", 202401, 202412).estimate());
+    }
+
+    @Test
+    void deltaMergeUnionsExistingMonths() {
+        ComplexSketches sketches = ComplexSketches.build(DealColumns.builder()
+                .add("A", "1168010100", 202401, 1, 10_000, 84.9f, 5)
+                .build());
+
+        sketches.merge(ComplexSketches.build(DealColumns.builder()
+                .add("A", "1168010100", 202401, 2, 30_000, 84.9f, 5)
+                .add("B", "1168010200", 202401, 2, 20_000, 59.9f, 5)
+                .build()));
+
+        assertEquals(2, sketches.union("11680", 202401, 202401).estimate());
+        assertEquals(2, sketches.union("11", 202401, 202401).estimate());
+    }
+}
@@ -0,0 +1,48 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountCacheTest {
+
+    @Test
+    void reusesCountUntilInvalidated() {
+        CountCache cache = new CountCache(16, 60_000L);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(5, cache.get("a", () -> { loads.incrementAndGet(); return 5; }));
+        assertEquals(5, cache.get("a", () -> { loads.incrementAndGet(); return 7; }));
+        assertEquals(1, loads.get());
+
+        cache.invalidateAll();
+        assertEquals(7, cache.get("a", () -> { loads.incrementAndGet(); return 7; }));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        CountCache cache = new CountCache(16, 0L);
+        cache.get("a", () -> 1);
+
+        assertEquals(2, cache.get("a", () -> 2));
+    }
+
+    @Test
+    void countStartedBeforeInvalidationIsNotStored() {
+        CountCache cache = new CountCache(16, 60_000L);
+
+        // when: 세는 도중에 쓰기가 일어나 캐시가 비워짐
+        int stale = cache.get("a", () -> {
+            cache.invalidateAll();
+            return 1;
+        });
+
+        // then: 그 결과는 반환만 하고 저장하지 않는다
+        assertEquals(1, stale);
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.get("a", () -> 2));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealColumnsTest {
+
+    @Test
+    void scanReturnsApartmentDealsInDateOrderWithinRange() {
+        // given: 아파트/날짜 순서가 섞인 입력
+        DealColumns columns = DealColumns.builder()
+                .add("A", "1168010100", 202403, 5, 90000, 84.9f, 10)
+                .add("B", "1168010200", 202401, 1, 50000, 59.9f, 3)
+                .add("A", "1168010100", 202312, 20, 85000, 84.9f, 7)
+                .add("A", "1168010100", 202401, 15, 87000, 84.9f, DealColumns.NO_FLOOR)
+                .build();
+
+        // when
+        List<Integer> prices = new ArrayList<>();
+        columns.scanApartment(columns.indexOf("A"), 202401, 202412, r -> prices.add(columns.price(r)));
+
+        // then
+        assertEquals(List.of(87000, 90000), prices);
+        assertEquals(-1, columns.indexOf("C"));
+    }
+
+    @Test
+    void appendKeepsPreviousSnapshotAndAddsNewApartments() {
+        // given
+        DealColumns before = DealColumns.builder()
+                .add("A", "1168010100", 202401, 1, 80000, 84.9f, 5)
+                .build();
+
+        // when
+        DealColumns after = before.append(DealColumns.builder()
+                .add("A", "1168010100", 202402, 1, 81000, 84.9f, 6)
+                .add("C", "4113510300", 202402, 2, 60000, 74.0f, 12));
+
+        // then
+        assertEquals(1, before.size());
+        assertEquals(3, after.size());
+        assertEquals(-1, before.indexOf("C"));
+        assertEquals("4113510300", after.dongCode(after.indexOf("C")));
+
+        List<Integer> prices = new ArrayList<>();
+        after.scanApartments(new int[]{after.indexOf("A"), after.indexOf("C")}, 0, Integer.MAX_VALUE,
+                r -> prices.add(after.price(r)));
+        assertEquals(List.of(80000, 81000, 60000), prices);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealCubeTest {
+
+    @Test
+    void rollsDongCellsUpToGugunSidoAndNation() {
+        DealCube cube = DealCube.build(DealColumns.builder()
+                .add("A", "1168010100", 202401, 5, 100_000, 84.9f, 10)
+                .add("A", "1168010100", 202401, 9, 120_000, 84.9f, 3)
+                .add("B", "1168010300", 202401, 2, 60_000, 59.9f, 7)
+                .add("C", "1165010100", 202402, 1, 90_000, 84.0f, 5)
+                .add("D", "4113510900", 202402, 3, 50_000, 84.0f, 5)
+                .add("E", "", 202402, 3, 1, 84.0f, 5)
+                .build());
+
+        // 동: 84.9 / 3.3 = 25평 구간 2건
+        assertEquals(List.of("202401/25 x2 220000 100000~120000"), cells(cube, "1168010100", 0, 999999, 0, 1000));
+        // 구군: 같은 셀이 없어 두 동 셀이 그대로
+        assertEquals(List.of("202401/18 x1 60000 60000~60000", "202401/25 x2 220000 100000~120000"),
+                cells(cube, "11680", 0, 999999, 0, 1000));
+        // 시도: 기간/평형 조건
+        assertEquals(List.of("202402/25 x1 90000 90000~90000"), cells(cube, "11", 202402, 202402, 20, 30));
+        // 전국 (법정동 코드 없는 거래 제외)
+        assertEquals(List.of("202401/18 x1 60000 60000~60000", "202401/25 x2 220000 100000~120000",
+                        "202402/25 x2 140000 50000~90000"),
+                cells(cube, "", 0, 999999, 0, 1000));
+        assertTrue(cells(cube, "26", 0, 999999, 0, 1000).isEmpty());
+    }
+
+    @Test
+    void mergedDeltaMatchesFullBuild() {
+        DealColumns base = DealColumns.builder()
+                .add("A", "1168010100", 202401, 5, 100_000, 84.9f, 10)
+                .build();
+        DealColumns delta = DealColumns.builder()
+                .add("A", "1168010100", 202401, 9, 80_000, 84.9f, 3)
+                .add("F", "1171010100", 202403, 1, 70_000, 59.0f, 2)
+                .build();
+
+        DealCube cube = DealCube.build(base);
+        cube.merge(DealCube.build(delta));
+
+        DealCube full = DealCube.build(base.append(DealColumns.builder()
+                .add("A", "1168010100", 202401, 9, 80_000, 84.9f, 3)
+                .add("F", "1171010100", 202403, 1, 70_000, 59.0f, 2)));
+        for (String code : List.of("1168010100", "1171010100", "11680", "11710", "11", "")) {
+            assertEquals(cells(full, code, 0, 999999, 0, 1000), cells(cube, code, 0, 999999, 0, 1000), code);
+        }
+        assertEquals(List.of("202401/25 x2 180000 80000~100000"), cells(cube, "11680", 0, 999999, 0, 1000));
+    }
+
+    @Test
+    void supportsOnlyHierarchyPrefixes() {
+        assertTrue(DealCube.supports(null));
+        assertTrue(DealCube.supports("11"));
+        assertTrue(DealCube.supports("11680"));
+        assertTrue(DealCube.supports("1168010100"));
+        assertFalse(DealCube.supports("1168"));
+    }
+
+    private static List<String> cells(DealCube cube, String code, int from, int to, int minBucket, int maxBucket) {
+        List<String> result = new ArrayList<>();
+        cube.scan(code, from, to, minBucket, maxBucket, (cells, i) -> result.add(
+                cells.yyyymm(i) + "/" + cells.bucket(i) + " x" + cells.count(i) + " " + cells.sum(i)
+                        + " " + cells.min(i) + "~" + cells.max(i)));
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HilbertRTreeTest {
+
+    @Test
+    void searchMatchesLinearScan() {
+        // given
+        Random random = new Random(7);
+        int n = 5000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = 126.5 + random.nextDouble();
+            ys[i] = 37.0 + random.nextDouble();
+        }
+        HilbertRTree tree = new HilbertRTree(xs, ys);
+
+        for (int q = 0; q < 100; q++) {
+            double minX = 126.5 + random.nextDouble() * 0.9;
+            double minY = 37.0 + random.nextDouble() * 0.9;
+            double maxX = minX + 0.1;
+            double maxY = minY + 0.1;
+
+            // when
+            Set<Integer> found = new HashSet<>();
+            tree.search(minX, minY, maxX, maxY, found::add);
+
+            // then
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < n; i++) {
+                if (xs[i] >= minX && xs[i] <= maxX && ys[i] >= minY && ys[i] <= maxY) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, found);
+        }
+    }
+
+    @Test
+    void nearestMatchesSortedScan() {
+        // given
+        Random random = new Random(11);
+        int n = 5000;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = 126.5 + random.nextDouble();
+            ys[i] = 37.0 + random.nextDouble();
+        }
+        HilbertRTree tree = new HilbertRTree(xs, ys);
+        double xScale = Math.cos(Math.toRadians(37.5));
+
+        for (int q = 0; q < 50; q++) {
+            double x = 126.5 + random.nextDouble();
+            double y = 37.0 + random.nextDouble();
+            int k = 1 + random.nextInt(30);
+
+            // when
+            int[] found = tree.nearest(x, y, k, Double.POSITIVE_INFINITY, xScale);
+
+            // then
+            Integer[] all = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            Arrays.sort(all, Comparator.comparingDouble(i -> {
+                double dx = (xs[i] - x) * xScale;
+                double dy = ys[i] - y;
+                return dx * dx + dy * dy;
+            }));
+            assertEquals(k, found.length);
+            for (int i = 0; i < k; i++) {
+                assertEquals(all[i], found[i]);
+            }
+        }
+    }
+
+    @Test
+    void nearestRespectsMaxDistance() {
+        HilbertRTree tree = new HilbertRTree(new double[]{0, 1, 2, 3}, new double[]{0, 0, 0, 0});
+
+        int[] found = tree.nearest(0, 0, 10, 1.5, 1);
+
+        assertArrayEquals(new int[]{0, 1}, found);
+        assertEquals(0, new HilbertRTree(new double[0], new double[0]).nearest(0, 0, 3, 1, 1).length);
+    }
+
+    @Test
+    void emptyAndSingleItem() {
+        HilbertRTree empty = new HilbertRTree(new double[0], new double[0]);
+        empty.search(-180, -90, 180, 90, i -> fail());
+
+        HilbertRTree single = new HilbertRTree(new double[]{127.0}, new double[]{37.5});
+        Set<Integer> found = new HashSet<>();
+        single.search(126, 37, 128, 38, found::add);
+        assertEquals(Set.of(0), found);
+    }
+}
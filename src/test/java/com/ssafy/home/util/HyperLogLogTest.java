@@ -0,0 +1,64 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void smallSetsAreCountedAlmostExactly() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 300; i++) {
+            hll.add("APT-" + i);
+            hll.add("APT-" + i);
+        }
+        assertEquals(0, new HyperLogLog().estimate());
+        assertEquals(300, hll.estimate(), 3);
+    }
+
+    @Test
+    void largeSetsStayWithinErrorBound() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 100_000; i++) {
+            hll.add("APT-" + i);
+        }
+        // 표준 오차 1.6% 의 3배 이내
+        assertEquals(100_000, hll.estimate(), 100_000 * 0.05);
+    }
+
+    @Test
+    void unionCountsOverlapOnce() {
+        HyperLogLog a = new HyperLogLog();
+        HyperLogLog b = new HyperLogLog();
+        for (int i = 0; i < 5_000; i++) {
+            a.add("APT-" + i);
+            b.add("APT-" + (i + 2_500));
+        }
+        // sparse + dense, dense + sparse 양쪽 모두
+        HyperLogLog small = new HyperLogLog();
+        small.add("APT-0");
+        small.add("NEW");
+        a.merge(small);
+        a.merge(b);
+        assertEquals(7_501, a.estimate(), 7_501 * 0.05);
+
+        small.merge(b);
+        assertEquals(5_002, small.estimate(), 5_002 * 0.05);
+    }
+
+    @Test
+    void bytesRoundTripInBothRepresentations() {
+        HyperLogLog sparse = new HyperLogLog();
+        HyperLogLog dense = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            dense.add("APT-" + i);
+            if (i < 50) {
+                sparse.add("APT-" + i);
+            }
+        }
+        assertEquals(sparse.estimate(), HyperLogLog.fromBytes(sparse.toBytes()).estimate());
+        assertEquals(dense.estimate(), HyperLogLog.fromBytes(dense.toBytes()).estimate());
+        assertTrue(sparse.toBytes().length < dense.toBytes().length);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ssafy.home.util;
+
+import com.ssafy.home.domain.HouseDeal;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MolitDealXmlParserTest {
+
+    @Test
+    void parsesItemsAndSkipsCancelledDeals() throws Exception {
+        List<HouseDeal> deals = new ArrayList<>();
+
+        MolitDealXmlParser.Page page;
+        try (InputStream in = fixture("11680_202405_1.xml")) {
+            page = MolitDealXmlParser.parse(in, deals::add);
+        }
+
+        assertTrue(page.isSuccess());
+        assertEquals(5, page.getTotalCount());
+        assertEquals(2, page.getItems());
+        assertEquals(1, page.getCancelled());
+
+        HouseDeal first = deals.get(0);
+        assertEquals("11680-4418", first.getAptSeq());
+        assertEquals("개포자이프레지던스", first.getAptNm());
+        assertEquals("101", first.getAptDong());
+        assertEquals("12", first.getFloor());
+        assertEquals(2024, first.getDealYear());
+        assertEquals(5, first.getDealMonth());
+        assertEquals(3, first.getDealDay());
+        assertEquals(84.96, first.getExcluUseAr(), 1e-9);
+        assertEquals("325,000", first.getDealAmount());
+        assertEquals(325000, first.getPrice());
+        assertNull(deals.get(1).getAptDong());
+    }
+
+    @Test
+    void readsLegacyKoreanTags() throws Exception {
+        List<HouseDeal> deals = new ArrayList<>();
+
+        try (InputStream in = fixture("legacy_korean.xml")) {
+            MolitDealXmlParser.parse(in, deals::add);
+        }
+
+        assertEquals(1, deals.size());
+        assertEquals("광화문풍림스페이스본(101동~105동)", deals.get(0).getAptNm());
+        assertEquals(2019, deals.get(0).getDealYear());
+        assertEquals(82500, deals.get(0).getPrice());
+        assertEquals("사직동", deals.get(0).getUmdNm());
+        assertEquals("9", deals.get(0).getJibun());
+        assertNull(deals.get(0).getAptSeq());
+    }
+
+    @Test
+    void portalErrorResponseIsNotSuccess() throws Exception {
+        MolitDealXmlParser.Page page;
+        try (InputStream in = fixture("error_key.xml")) {
+            page = MolitDealXmlParser.parse(in, deal -> fail("거래가 없어야 합니다."));
+        }
+
+        assertFalse(page.isSuccess());
+        assertEquals("30", page.getResultCode());
+        assertEquals("SERVICE_KEY_IS_NOT_REGISTERED_ERROR", page.getResultMsg());
+    }
+
+    private static InputStream fixture(String name) {
+        return MolitDealXmlParserTest.class.getResourceAsStream("/molit/" + name);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MvtEncoderTest {
+
+    @Test
+    void encodesPointGeometryWithMoveToAndZigZag() {
+        MvtEncoder encoder = new MvtEncoder();
+        encoder.layer("apartments").addPoint(7, 10, -3, Map.of());
+
+        Field layer = only(decode(encoder.encode()), 3);
+        List<Field> layerFields = decode(layer.bytes);
+        assertEquals(2, only(layerFields, 15).value);
+        assertEquals("apartments", only(layerFields, 1).text());
+        assertEquals(MvtEncoder.DEFAULT_EXTENT, only(layerFields, 5).value);
+
+        List<Field> feature = decode(only(layerFields, 2).bytes);
+        assertEquals(7, only(feature, 1).value);
+        assertEquals(1, only(feature, 3).value);
+        // MoveTo(1) x 1 = 9, zigzag(10) = 20, zigzag(-3) = 5
+        assertEquals(List.of(9L, 20L, 5L), varints(only(feature, 4).bytes));
+    }
+
+    @Test
+    void sharesKeyAndValueTablesAcrossFeatures() {
+        MvtEncoder encoder = new MvtEncoder();
+        MvtEncoder.Layer layer = encoder.layer("apartments");
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("name", "래미안");
+        first.put("price", 125_000L);
+        first.put("memo", null);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("price", 125_000L);
+        second.put("change", -3);
+        second.put("pricePerM2", 1470.5);
+        layer.addPoint(1, 0, 0, first);
+        layer.addPoint(2, 4096, 4096, second);
+
+        List<Field> layerFields = decode(only(decode(encoder.encode()), 3).bytes);
+
+        // null 속성은 빠지고, 같은 키/값은 한 번만 들어간다
+        List<String> keys = new ArrayList<>();
+        for (Field f : all(layerFields, 3)) {
+            keys.add(f.text());
+        }
+        assertEquals(List.of("name", "price", "change", "pricePerM2"), keys);
+
+        List<Field> values = all(layerFields, 4);
+        assertEquals(4, values.size());
+        assertEquals("래미안", only(decode(values.get(0).bytes), 1).text());
+        assertEquals(125_000L, only(decode(values.get(1).bytes), 5).value);
+        assertEquals(5L, only(decode(values.get(2).bytes), 6).value); // sint zigzag(-3)
+        assertEquals(1470.5, Double.longBitsToDouble(only(decode(values.get(3).bytes), 3).value), 1e-9);
+
+        List<Field> features = all(layerFields, 2);
+        assertEquals(List.of(0L, 0L, 1L, 1L), varints(only(decode(features.get(0).bytes), 2).bytes));
+        assertEquals(List.of(1L, 1L, 2L, 2L, 3L, 3L), varints(only(decode(features.get(1).bytes), 2).bytes));
+    }
+
+    @Test
+    void emptyLayersAreOmitted() {
+        MvtEncoder encoder = new MvtEncoder();
+        encoder.layer("clusters");
+
+        assertEquals(0, encoder.encode().length);
+    }
+
+    // ---- 테스트용 protobuf 읽기 ----
+
+    private record Field(int number, long value, byte[] bytes) {
+        String text() {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<Field> decode(byte[] message) {
+        List<Field> fields = new ArrayList<>();
+        int[] pos = {0};
+        while (pos[0] < message.length) {
+            long tag = readVarint(message, pos);
+            int number = (int) (tag >>> 3);
+            switch ((int) (tag & 0x7)) {
+                case 0 -> fields.add(new Field(number, readVarint(message, pos), null));
+                case 1 -> {
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits |= (message[pos[0]++] & 0xFFL) << (8 * i);
+                    }
+                    fields.add(new Field(number, bits, null));
+                }
+                case 2 -> {
+                    int length = (int) readVarint(message, pos);
+                    byte[] bytes = new byte[length];
+                    System.arraycopy(message, pos[0], bytes, 0, length);
+                    pos[0] += length;
+                    fields.add(new Field(number, 0, bytes));
+                }
+                default -> fail("지원하지 않는 wire type: " + (tag & 0x7));
+            }
+        }
+        return fields;
+    }
+
+    private static List<Long> varints(byte[] packed) {
+        List<Long> values = new ArrayList<>();
+        int[] pos = {0};
+        while (pos[0] < packed.length) {
+            values.add(readVarint(packed, pos));
+        }
+        return values;
+    }
+
+    private static long readVarint(byte[] bytes, int[] pos) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static List<Field> all(List<Field> fields, int number) {
+        return fields.stream().filter(f -> f.number() == number).toList();
+    }
+
+    private static Field only(List<Field> fields, int number) {
+        List<Field> matches = all(fields, number);
+        assertEquals(1, matches.size(), "field " + number);
+        return matches.get(0);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolygonTest {
+
+    @Test
+    void containsMatchesNaiveCrossingTest() {
+        // given: 꼭짓점 300개의 별 모양(오목) 다각형
+        Random random = new Random(13);
+        int n = 300;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            double r = 0.02 + random.nextDouble() * 0.03;
+            xs[i] = 127.0 + r * Math.cos(angle);
+            ys[i] = 37.5 + r * Math.sin(angle);
+        }
+        Polygon polygon = new Polygon(xs, ys);
+
+        for (int q = 0; q < 20000; q++) {
+            double x = 126.94 + random.nextDouble() * 0.12;
+            double y = 37.44 + random.nextDouble() * 0.12;
+
+            // when / then
+            assertEquals(naiveContains(xs, ys, x, y), polygon.contains(x, y));
+        }
+    }
+
+    @Test
+    void closingPointIsOptionalAndTooFewVerticesRejected() {
+        Polygon square = new Polygon(new double[]{0, 1, 1, 0, 0}, new double[]{0, 0, 1, 1, 0});
+        assertEquals(4, square.vertexCount());
+        assertTrue(square.contains(0.5, 0.5));
+        assertFalse(square.contains(1.5, 0.5));
+
+        assertThrows(IllegalArgumentException.class, () -> new Polygon(new double[]{0, 1}, new double[]{0, 1}));
+    }
+
+    private static boolean naiveContains(double[] xs, double[] ys, double x, double y) {
+        boolean inside = false;
+        for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+            if ((ys[i] > y) != (ys[j] > y)
+                    && x < (xs[j] - xs[i]) * (y - ys[i]) / (ys[j] - ys[i]) + xs[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+}
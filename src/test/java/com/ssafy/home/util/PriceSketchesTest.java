@@ -0,0 +1,52 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceSketchesTest {
+
+    @Test
+    void gugunSketchesRollUpToSidoAndNation() {
+        DealColumns.Builder builder = DealColumns.builder();
+        for (int i = 1; i <= 100; i++) {
+            builder.add("A", "1168010100", 202401, 1, i * 1_000, 84.9f, 5);
+            builder.add("B", "1165010100", 202402, 1, 100_000 + i * 1_000, 84.9f, 5);
+            builder.add("C", "4113510900", 202401, 1, 50_000, 84.9f, 5);
+        }
+        PriceSketches sketches = PriceSketches.build(builder.build());
+
+        assertEquals(100, sketches.merged("11680", 202401, 202412).count());
+        assertEquals(50_500, sketches.merged("11680", 202401, 202401).quantile(0.5), 1_000);
+        // 시도 = 두 구군, 기간 조건
+        assertEquals(200, sketches.merged("11", 202401, 202402).count());
+        assertEquals(100, sketches.merged("11", 202402, 202402).count());
+        assertEquals(300, sketches.merged("", 0, 999912).count());
+        assertEquals(50_000, sketches.merged("41", 202401, 202401).quantile(0.9), 1e-9);
+        assertEquals(0, sketches.merged("26", 202401, 202412).count());
+    }
+
+    @Test
+    void deltaMergeAddsToExistingMonths() {
+        PriceSketches sketches = PriceSketches.build(DealColumns.builder()
+                .add("A", "1168010100", 202401, 1, 10_000, 84.9f, 5)
+                .build());
+
+        sketches.merge(PriceSketches.build(DealColumns.builder()
+                .add("A", "1168010100", 202401, 2, 30_000, 84.9f, 5)
+                .add("D", "1171010100", 202403, 2, 20_000, 59.9f, 5)
+                .build()));
+
+        assertEquals(2, sketches.merged("11680", 202401, 202401).count());
+        assertEquals(3, sketches.merged("11", 202401, 202403).count());
+        assertEquals(1, sketches.merged("11710", 202401, 202412).count());
+    }
+
+    @Test
+    void supportsGugunAndAbove() {
+        assertTrue(PriceSketches.supports(""));
+        assertTrue(PriceSketches.supports("11"));
+        assertTrue(PriceSketches.supports("11680"));
+        assertFalse(PriceSketches.supports("1168010100"));
+    }
+}
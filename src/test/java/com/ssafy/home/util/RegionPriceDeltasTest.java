@@ -0,0 +1,50 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionPriceDeltasTest {
+
+    @Test
+    void rollsChangesUpToGugunAndSido() {
+        RegionPriceDeltas deltas = new RegionPriceDeltas();
+
+        // 새 아파트 1곳 (10억), 기존 아파트 가격 변경 (8억 -> 9억)
+        deltas.change("1168010300", -1, 100_000);
+        deltas.change("1168010600", 80_000, 90_000);
+
+        assertEquals(List.of("1100000000", "1168000000", "1168010300", "1168010600"), deltas.codes());
+        assertEquals(100_000, deltas.sumDelta("1168010300"));
+        assertEquals(1, deltas.countDelta("1168010300"));
+        assertEquals(10_000, deltas.sumDelta("1168010600"));
+        assertEquals(0, deltas.countDelta("1168010600"));
+        assertEquals(110_000, deltas.sumDelta("1168000000"));
+        assertEquals(1, deltas.countDelta("1168000000"));
+        assertEquals(110_000, deltas.sumDelta("1100000000"));
+        assertEquals(1, deltas.countDelta("1100000000"));
+    }
+
+    @Test
+    void unchangedPriceAndBadCodeAreIgnored() {
+        RegionPriceDeltas deltas = new RegionPriceDeltas();
+
+        deltas.change("1168010300", 50_000, 50_000);
+        deltas.change(null, -1, 10_000);
+        deltas.change("11680", -1, 10_000);
+
+        assertTrue(deltas.isEmpty());
+    }
+
+    @Test
+    void invalidNewPriceRemovesApartmentFromCount() {
+        RegionPriceDeltas deltas = new RegionPriceDeltas();
+
+        deltas.change("4113510900", 70_000, -1);
+
+        assertEquals(-70_000, deltas.sumDelta("4113510900"));
+        assertEquals(-1, deltas.countDelta("4100000000"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepeatSalesIndexTest {
+
+    @Test
+    void recoversMonthlyGrowthRegardlessOfSizeMix() {
+        // 강남구: 월 1% 상승, 앞 1년은 소형 위주, 뒤 1년은 대형 위주로 거래 (평균가는 크게 왜곡)
+        DealColumns.Builder builder = DealColumns.builder();
+        for (int apt = 0; apt < 20; apt++) {
+            for (int m = apt % 3; m < 24; m += 3) {
+                int yyyymm = (2020 + m / 12) * 100 + m % 12 + 1;
+                double level = Math.pow(1.01, m) * (1 + 0.01 * Math.sin(apt * 7 + m));
+                int smallSales = m < 12 ? 3 : 1;
+                int largeSales = m < 12 ? 1 : 3;
+                for (int k = 0; k < smallSales; k++) {
+                    builder.add("S" + apt + "-" + k, "1168010100", yyyymm, 1, (int) (50_000 * level), 59.9f, 5);
+                }
+                for (int k = 0; k < largeSales; k++) {
+                    builder.add("L" + apt + "-" + k, "1168010300", yyyymm, 1, (int) (150_000 * level), 114.9f, 5);
+                }
+            }
+        }
+        // 쌍이 부족한 구군은 제외
+        builder.add("X", "4113510900", 202001, 1, 30_000, 84.9f, 5);
+        builder.add("X", "4113510900", 202006, 1, 33_000, 84.9f, 5);
+
+        Map<String, RepeatSalesIndex.Series> series = RepeatSalesIndex.compute(builder.build(), new ForkJoinPool(2));
+
+        assertFalse(series.containsKey("41135"));
+        RepeatSalesIndex.Series gangnam = series.get("11680");
+        assertEquals(24, gangnam.size());
+        assertEquals(202001, gangnam.yyyymm(0));
+        assertEquals(202112, gangnam.yyyymm(23));
+        assertEquals(100, gangnam.index(0), 1e-9);
+        assertEquals(100 * Math.pow(1.01, 12), gangnam.index(12), 1.5);
+        assertEquals(100 * Math.pow(1.01, 23), gangnam.index(23), 1.5);
+    }
+
+    @Test
+    void pairsOnlySameFloorPlanAcrossMonths() {
+        DealColumns columns = DealColumns.builder()
+                .add("A", "1168010100", 202001, 1, 50_000, 59.9f, 5)
+                .add("A", "1168010100", 202003, 1, 90_000, 84.9f, 5)
+                .add("A", "1168010100", 202005, 1, 52_000, 59.5f, 5)
+                .add("A", "1168010100", 202005, 20, 53_000, 59.9f, 5)
+                .add("A", "1168010100", 202008, 1, 95_000, 84.9f, 5)
+                // 4배 넘게 벌어진 쌍은 입력 오류로 제외
+                .add("A", "1168010100", 202012, 1, 9_500, 84.9f, 5)
+                .build();
+        int[] rows = {0, 1, 2, 3, 4, 5};
+        RepeatSalesIndex.Pairs pairs = new RepeatSalesIndex.Pairs();
+
+        RepeatSalesIndex.collectPairs(columns, rows, 0, rows.length, pairs);
+
+        // 59㎡: 202001 -> 202005 (같은 달 두 번째 거래는 건너뜀), 84㎡: 202003 -> 202008
+        assertEquals(2, pairs.size());
+    }
+}
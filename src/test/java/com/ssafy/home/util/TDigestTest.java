@@ -0,0 +1,99 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TDigestTest {
+
+    @Test
+    void estimatesQuantilesOfSkewedPrices() {
+        // given: 대부분 5~15억, 일부 초고가 (로그정규 분포)
+        Random random = new Random(42);
+        double[] prices = new double[100_000];
+        TDigest digest = new TDigest();
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = Math.round(Math.exp(11.4 + 0.5 * random.nextGaussian()));
+            digest.add(prices[i]);
+        }
+        Arrays.sort(prices);
+
+        // then: 순위 오차 0.5% 이내
+        for (double q : new double[]{0.10, 0.25, 0.50, 0.75, 0.90}) {
+            double estimate = digest.quantile(q);
+            double rank = (double) lowerBound(prices, estimate) / prices.length;
+            assertEquals(q, rank, 0.005, "q=" + q);
+        }
+        assertEquals(prices.length, digest.count());
+        assertEquals(prices[0], digest.quantile(0), 1e-9);
+        assertEquals(prices[prices.length - 1], digest.quantile(1), 1e-9);
+    }
+
+    @Test
+    void mergedDigestsMatchSingleDigestAndStaySmall() {
+        TDigest all = new TDigest();
+        TDigest merged = new TDigest();
+        for (int part = 0; part < 12; part++) {
+            TDigest month = new TDigest();
+            for (int i = 0; i < 5_000; i++) {
+                double price = 30_000 + ((i * 7919L + part * 104_729L) % 100_000);
+                month.add(price);
+                all.add(price);
+            }
+            // 직렬화 왕복 후 합치기
+            merged.merge(TDigest.fromBytes(month.toBytes()));
+        }
+
+        assertEquals(60_000, merged.count());
+        assertEquals(all.quantile(0.5), merged.quantile(0.5), 1_000);
+        assertEquals(all.quantile(0.9), merged.quantile(0.9), 1_000);
+        assertTrue(merged.toBytes().length < 4 * 1024, "직렬화 크기 " + merged.toBytes().length);
+    }
+
+    @Test
+    void smallAndEmptyDigests() {
+        TDigest empty = new TDigest();
+        assertTrue(Double.isNaN(empty.quantile(0.5)));
+        assertEquals(0, TDigest.fromBytes(empty.toBytes()).count());
+
+        TDigest single = new TDigest();
+        single.add(52_000);
+        assertEquals(52_000, single.quantile(0.1), 1e-9);
+        assertEquals(52_000, single.quantile(0.9), 1e-9);
+    }
+
+    @Test
+    void mergeIncludesUncompressedBufferOfOther() {
+        TDigest source = new TDigest();
+        for (int i = 1; i <= 1_000; i++) {
+            source.add(i);
+        }
+        source.quantile(0.5);
+        // 압축 뒤 버퍼에만 남은 값
+        source.add(5_000);
+
+        TDigest target = new TDigest();
+        target.merge(source);
+
+        assertEquals(1_001, target.count());
+        assertEquals(5_000, target.quantile(1), 1e-9);
+        assertEquals(1_001, source.count());
+    }
+
+    private static int lowerBound(double[] sorted, double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.home.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class YearMonthIndexTest {
+
+    @Test
+    void roundTripsAndCountsMonthsAcrossYears() {
+        assertEquals(202312, YearMonthIndex.toYyyymm(YearMonthIndex.of(202312)));
+        assertEquals(202401, YearMonthIndex.toYyyymm(YearMonthIndex.of(202312) + 1));
+        assertEquals(13, YearMonthIndex.of(202501) - YearMonthIndex.of(202312));
+        assertTrue(YearMonthIndex.of(546012) <= 0xFFFF);
+
+        assertTrue(YearMonthIndex.isValid(202412));
+        assertFalse(YearMonthIndex.isValid(202400));
+        assertFalse(YearMonthIndex.isValid(202413));
+    }
+}